@@ -1,8 +1,15 @@
 package com.project.pms.apigateway;
 
+import java.net.InetSocketAddress;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.context.annotation.Bean;
+import reactor.core.publisher.Mono;
 
 @SpringBootApplication
 @EnableDiscoveryClient
@@ -12,4 +19,24 @@ public class ApiGatewayApplication {
         SpringApplication.run(ApiGatewayApplication.class, args);
     }
 
-}
\ No newline at end of file
+    /**
+     * Rate limits per client address. X-Forwarded-For is only trusted for the
+     * {@code gateway.rate-limit.trusted-proxies} hops our own proxies append, so a client
+     * cannot pick its own key by sending the header; with no trusted proxies the TCP peer
+     * address is used.
+     */
+    @Bean
+    public KeyResolver clientAddressKeyResolver(@Value("${gateway.rate-limit.trusted-proxies:0}") int trustedProxies) {
+        RemoteAddressResolver resolver = trustedProxies > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies)
+                : new RemoteAddressResolver() { };
+        return exchange -> {
+            InetSocketAddress address = resolver.resolve(exchange);
+            if (address == null) {
+                return Mono.empty();
+            }
+            return Mono.just(address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString());
+        };
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.project.pms.apigateway.cache;
+
+import org.springframework.http.MediaType;
+
+public record CachedResponse(String routeId, MediaType contentType, byte[] body, String etag, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
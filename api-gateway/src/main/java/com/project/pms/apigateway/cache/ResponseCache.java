@@ -0,0 +1,119 @@
+package com.project.pms.apigateway.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory LRU of GET response bodies, bounded by total body bytes. Entries are
+ * grouped by route: a write through a route invalidates everything cached for it
+ * and bumps the route's generation, so a read that started before the write
+ * cannot put its now stale body back afterwards.
+ */
+@Component
+public class ResponseCache {
+
+    @Value("${gateway.response-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${gateway.response-cache.ttl:30s}")
+    private Duration ttl;
+
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder bytesServed = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public synchronized CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && cached.isExpired(System.currentTimeMillis())) {
+            remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    public long generation(String routeId) {
+        return generations.computeIfAbsent(routeId, id -> new AtomicLong()).get();
+    }
+
+    public CachedResponse newEntry(String routeId, MediaType contentType, byte[] body, String etag) {
+        return new CachedResponse(routeId, contentType, body, etag, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    public synchronized void put(String key, CachedResponse response, long generation) {
+        if (generation != generation(response.routeId()) || response.body().length > maxBytes) {
+            return;
+        }
+        remove(key);
+        entries.put(key, response);
+        bytes += response.body().length;
+        Iterator<CachedResponse> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().body().length;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public void invalidate(String routeId) {
+        generations.computeIfAbsent(routeId, id -> new AtomicLong()).incrementAndGet();
+        synchronized (this) {
+            Iterator<CachedResponse> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                CachedResponse cached = iterator.next();
+                if (cached.routeId().equals(routeId)) {
+                    bytes -= cached.body().length;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        entries.clear();
+        bytes = 0;
+    }
+
+    public void recordHit(long bodyBytes) {
+        hits.increment();
+        bytesServed.add(bodyBytes);
+    }
+
+    public void recordNotModified() {
+        notModified.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public synchronized ResponseCacheStats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long lookups = hitCount + missCount;
+        return new ResponseCacheStats(entries.size(), bytes, maxBytes, hitCount, missCount,
+                lookups == 0 ? 0.0 : (double) hitCount / lookups, notModified.sum(), bytesServed.sum(),
+                evictions.sum());
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.body().length;
+        }
+    }
+}
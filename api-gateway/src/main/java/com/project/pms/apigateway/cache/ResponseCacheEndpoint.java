@@ -0,0 +1,30 @@
+package com.project.pms.apigateway.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Response cache stats and clearing as the {@code responsecache} actuator endpoint. Like any
+ * other actuator endpoint it is reachable over HTTP only when listed in
+ * {@code management.endpoints.web.exposure.include}, which it is not by default.
+ */
+@Component
+@Endpoint(id = "responsecache")
+public class ResponseCacheEndpoint {
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @ReadOperation
+    public ResponseCacheStats stats() {
+        return responseCache.getStats();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        responseCache.clear();
+    }
+}
@@ -0,0 +1,5 @@
+package com.project.pms.apigateway.cache;
+
+public record ResponseCacheStats(int entries, long bytes, long maxBytes, long hits, long misses, double hitRatio,
+                                 long notModified, long bytesServedFromCache, long evictions) {
+}
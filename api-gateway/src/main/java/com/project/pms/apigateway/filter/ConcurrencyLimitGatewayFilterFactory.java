@@ -0,0 +1,78 @@
+package com.project.pms.apigateway.filter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caps the requests a route has in flight through this gateway. Requests over the cap are
+ * answered with 503 and {@code Retry-After} straight away instead of queueing behind the
+ * slow backend, so one overloaded route cannot tie up the connections of the others.
+ * <p>
+ * Usage: {@code filters[1]=ConcurrencyLimit=32}.
+ */
+@Component
+public class ConcurrencyLimitGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ConcurrencyLimitGatewayFilterFactory.Config> {
+
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitGatewayFilterFactory() {
+        super(Config.class);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("maxInFlight");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getRequiredAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            AtomicInteger counter = inFlight.computeIfAbsent(route.getId(), id -> new AtomicInteger());
+            if (counter.incrementAndGet() > config.getMaxInFlight()) {
+                counter.decrementAndGet();
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(config.getRetryAfterSeconds()));
+                return response.setComplete();
+            }
+            return chain.filter(exchange).doFinally(signal -> counter.decrementAndGet());
+        };
+    }
+
+    public static class Config {
+
+        private int maxInFlight = 100;
+
+        private int retryAfterSeconds = 1;
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public Config setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public int getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+
+        public Config setRetryAfterSeconds(int retryAfterSeconds) {
+            this.retryAfterSeconds = retryAfterSeconds;
+            return this;
+        }
+    }
+}
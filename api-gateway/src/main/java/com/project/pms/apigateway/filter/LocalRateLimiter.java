@@ -0,0 +1,160 @@
+package com.project.pms.apigateway.filter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process token bucket {@link org.springframework.cloud.gateway.filter.ratelimit.RateLimiter}
+ * for the {@code RequestRateLimiter} filter, standing in for the Redis one. Buckets live in
+ * this gateway instance only, so with N gateway instances a client gets up to N times the
+ * configured rate.
+ * <p>
+ * Per-route settings come from the filter args, e.g.
+ * {@code filters[0].args.local-rate-limiter.replenish-rate=10}.
+ */
+@Component
+public class LocalRateLimiter extends AbstractRateLimiter<LocalRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+    public static final String REQUESTED_TOKENS_HEADER = "X-RateLimit-Requested-Tokens";
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Value("${gateway.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final Config defaultConfig = new Config();
+
+    public LocalRateLimiter(ConfigurationService configurationService) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        long now = System.nanoTime();
+        if (buckets.size() > maxKeys) {
+            sweep(now);
+        }
+
+        Bucket bucket = buckets.computeIfAbsent(routeId + ':' + id, key -> new Bucket(config, now));
+        long remaining = bucket.tryAcquire(config, now);
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put(REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()));
+        headers.put(BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()));
+        headers.put(REQUESTED_TOKENS_HEADER, String.valueOf(config.getRequestedTokens()));
+        if (remaining < 0) {
+            headers.put(REMAINING_HEADER, "0");
+            headers.put(HttpHeaders.RETRY_AFTER, String.valueOf(bucket.secondsUntilAvailable(config, now)));
+            return Mono.just(new Response(false, headers));
+        }
+        headers.put(REMAINING_HEADER, String.valueOf(remaining));
+        return Mono.just(new Response(true, headers));
+    }
+
+    /**
+     * Drops buckets that have refilled completely; a new bucket would start in the same state.
+     */
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+        private final int capacity;
+        private final double tokensPerNano;
+
+        Bucket(Config config, long now) {
+            this.capacity = config.getBurstCapacity();
+            this.tokensPerNano = (double) config.getReplenishRate() / NANOS_PER_SECOND;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        synchronized long tryAcquire(Config config, long now) {
+            refill(now);
+            if (tokens < config.getRequestedTokens()) {
+                return -1;
+            }
+            tokens -= config.getRequestedTokens();
+            return (long) tokens;
+        }
+
+        synchronized long secondsUntilAvailable(Config config, long now) {
+            refill(now);
+            double missing = config.getRequestedTokens() - tokens;
+            return Math.max(1, (long) Math.ceil(missing / tokensPerNano / NANOS_PER_SECOND));
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+
+    public static class Config {
+
+        private int replenishRate = 50;
+
+        private int burstCapacity = 100;
+
+        private int requestedTokens = 1;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public int getRequestedTokens() {
+            return requestedTokens;
+        }
+
+        public Config setRequestedTokens(int requestedTokens) {
+            this.requestedTokens = requestedTokens;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.project.pms.apigateway.filter;
+
+import com.project.pms.apigateway.cache.CachedResponse;
+import com.project.pms.apigateway.cache.ResponseCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves GET requests of a route from {@link ResponseCache} and stores JSON
+ * responses of up to {@code max-entry-bytes} on the way back, tagged with an
+ * ETag so clients can revalidate with If-None-Match. Any other write through the
+ * route invalidates the route's entries before and after it is forwarded.
+ * <p>
+ * Runs just before {@link NettyWriteResponseFilter} so it sees the response body.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+
+    private static final String CACHE_HEADER = "X-Cache";
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Value("${gateway.response-cache.max-entry-bytes:1048576}")
+    private int maxEntryBytes;
+
+    private final List<PathPattern> readOnlyPosts = new ArrayList<>();
+
+    public ResponseCacheGatewayFilterFactory() {
+        super(Object.class);
+    }
+
+    @Value("${gateway.response-cache.read-only-posts:}")
+    void setReadOnlyPosts(List<String> patterns) {
+        for (String pattern : patterns) {
+            if (!pattern.isBlank()) {
+                readOnlyPosts.add(PathPatternParser.defaultInstance.parse(pattern.trim()));
+            }
+        }
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return new OrderedGatewayFilter(this::filter, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getRequiredAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route.getId();
+        HttpMethod method = request.getMethod();
+
+        if (HttpMethod.GET.equals(method)) {
+            return serveFromCache(exchange, chain, routeId);
+        }
+        if (HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method) || isReadOnlyPost(request)) {
+            return chain.filter(exchange);
+        }
+        responseCache.invalidate(routeId);
+        return chain.filter(exchange).doFinally(signal -> responseCache.invalidate(routeId));
+    }
+
+    private Mono<Void> serveFromCache(ServerWebExchange exchange, GatewayFilterChain chain, String routeId) {
+        ServerHttpRequest request = exchange.getRequest();
+        String key = cacheKey(request);
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            return writeCached(exchange, cached);
+        }
+
+        responseCache.recordMiss();
+        long generation = responseCache.generation(routeId);
+        ServerHttpResponseDecorator response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                getHeaders().set(CACHE_HEADER, "MISS");
+                if (!isCacheable(this)) {
+                    return super.writeWith(body);
+                }
+                return super.writeWith(capture(this, request, body, bytes -> {
+                    String etag = "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+                    responseCache.put(key, responseCache.newEntry(routeId, getHeaders().getContentType(), bytes, etag),
+                            generation);
+                    return etag;
+                }));
+            }
+        };
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    /**
+     * Holds the body until it is complete or exceeds {@code maxEntryBytes}. Complete
+     * bodies are cached and answered with an ETag (or a 304 if the client already has
+     * it); oversized ones are passed through untouched.
+     */
+    private Flux<DataBuffer> capture(ServerHttpResponse response, ServerHttpRequest request,
+                                     Publisher<? extends DataBuffer> body, Function<byte[], String> store) {
+        List<DataBuffer> held = new ArrayList<>();
+        AtomicBoolean passThrough = new AtomicBoolean();
+        int[] size = {0};
+
+        Flux<DataBuffer> buffered = Flux.<DataBuffer>from(body).concatMap(buffer -> {
+            if (passThrough.get()) {
+                return Flux.just(buffer);
+            }
+            held.add(buffer);
+            size[0] += buffer.readableByteCount();
+            if (size[0] <= maxEntryBytes) {
+                return Flux.empty();
+            }
+            passThrough.set(true);
+            List<DataBuffer> released = new ArrayList<>(held);
+            held.clear();
+            return Flux.fromIterable(released);
+        });
+
+        Flux<DataBuffer> completed = Flux.defer(() -> {
+            if (passThrough.get()) {
+                return Flux.empty();
+            }
+            byte[] bytes = new byte[size[0]];
+            int offset = 0;
+            for (DataBuffer buffer : held) {
+                int length = buffer.readableByteCount();
+                buffer.read(bytes, offset, length);
+                offset += length;
+                DataBufferUtils.release(buffer);
+            }
+            held.clear();
+
+            String etag = store.apply(bytes);
+            HttpHeaders headers = response.getHeaders();
+            headers.setETag(etag);
+            headers.setCacheControl("no-cache");
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            if (matches(request, etag)) {
+                responseCache.recordNotModified();
+                response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                return Flux.empty();
+            }
+            headers.setContentLength(bytes.length);
+            return Flux.just(response.bufferFactory().wrap(bytes));
+        });
+
+        return buffered.concatWith(completed)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .doFinally(signal -> {
+                    held.forEach(DataBufferUtils::release);
+                    held.clear();
+                });
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.set(CACHE_HEADER, "HIT");
+        headers.setETag(cached.etag());
+        headers.setCacheControl("no-cache");
+        if (matches(exchange.getRequest(), cached.etag())) {
+            responseCache.recordHit(0);
+            responseCache.recordNotModified();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        responseCache.recordHit(cached.body().length);
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentType(cached.contentType());
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private boolean isCacheable(ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        MediaType contentType = headers.getContentType();
+        String cacheControl = headers.getCacheControl();
+        return HttpStatus.OK.equals(response.getStatusCode())
+                && contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                && headers.getContentLength() <= maxEntryBytes
+                && !headers.containsKey(HttpHeaders.SET_COOKIE)
+                && (cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private")));
+    }
+
+    private boolean isReadOnlyPost(ServerHttpRequest request) {
+        return HttpMethod.POST.equals(request.getMethod())
+                && readOnlyPosts.stream().anyMatch(pattern -> pattern.matches(request.getPath().pathWithinApplication()));
+    }
+
+    private static boolean matches(ServerHttpRequest request, String etag) {
+        for (String candidate : request.getHeaders().getIfNoneMatch()) {
+            if (candidate.equals("*") || candidate.replaceFirst("^W/", "").equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String cacheKey(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        return query != null ? request.getURI().getRawPath() + "?" + query : request.getURI().getRawPath();
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.pms.apigateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+class ClientAddressKeyResolverTest {
+
+    private static final MockServerWebExchange FORWARDED = MockServerWebExchange.from(MockServerHttpRequest.get("/")
+            .remoteAddress(new InetSocketAddress("10.0.0.100", 40000))
+            .header("X-Forwarded-For", "192.0.2.1, 203.0.113.7"));
+
+    @Test
+    void forwardedForIsIgnoredWithoutTrustedProxies() {
+        KeyResolver resolver = new ApiGatewayApplication().clientAddressKeyResolver(0);
+
+        assertThat(resolver.resolve(FORWARDED).block()).isEqualTo("10.0.0.100");
+    }
+
+    @Test
+    void onlyTheHopAddedByTheTrustedProxyIsUsed() {
+        KeyResolver resolver = new ApiGatewayApplication().clientAddressKeyResolver(1);
+
+        assertThat(resolver.resolve(FORWARDED).block()).isEqualTo("203.0.113.7");
+    }
+}
@@ -0,0 +1,133 @@
+package com.project.pms.apigateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.pms.apigateway.cache.ResponseCache;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.gateway.discovery.locator.enabled=false",
+        "gateway.response-cache.max-entry-bytes=64",
+        "management.endpoints.web.exposure.include=responsecache"
+})
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private static final AtomicInteger backendCalls = new AtomicInteger();
+
+    private static final DisposableServer backend = HttpServer.create().port(0)
+            .route(routes -> routes
+                    .get("/api/employees/large", (request, response) -> {
+                        backendCalls.incrementAndGet();
+                        return response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .sendString(Mono.just("[\"" + "x".repeat(200) + "\"]"));
+                    })
+                    .get("/api/employees/**", (request, response) -> {
+                        backendCalls.incrementAndGet();
+                        return response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .sendString(Mono.just("{\"employeeId\":1}"));
+                    })
+                    .post("/api/employees/batch", (request, response) -> response.sendString(Mono.just("[]")))
+                    .post("/api/employees", (request, response) -> response.sendString(Mono.just("{}"))))
+            .bindNow();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @DynamicPropertySource
+    static void routes(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.gateway.routes[0].id", () -> "employee-service");
+        registry.add("spring.cloud.gateway.routes[0].uri", () -> "http://localhost:" + backend.port());
+        registry.add("spring.cloud.gateway.routes[0].predicates[0]", () -> "Path=/api/employees/**");
+        registry.add("spring.cloud.gateway.routes[0].filters[0]", () -> "ResponseCache");
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.disposeNow();
+    }
+
+    @BeforeEach
+    void reset() {
+        responseCache.clear();
+        backendCalls.set(0);
+    }
+
+    @Test
+    void secondGetIsServedFromCacheAndRevalidatesWithEtag() {
+        String etag = webTestClient.get().uri("/api/employees/1").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Cache", "MISS")
+                .expectBody().json("{\"employeeId\":1}")
+                .returnResult().getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/api/employees/1").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Cache", "HIT")
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody().json("{\"employeeId\":1}");
+
+        webTestClient.get().uri("/api/employees/1").header(HttpHeaders.IF_NONE_MATCH, etag).exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        assertThat(backendCalls).hasValue(1);
+        assertThat(responseCache.getStats().hits()).isEqualTo(2);
+        assertThat(responseCache.getStats().notModified()).isEqualTo(1);
+    }
+
+    @Test
+    void writeInvalidatesRouteButReadOnlyPostDoesNot() {
+        webTestClient.get().uri("/api/employees/1").exchange().expectStatus().isOk();
+
+        webTestClient.post().uri("/api/employees/batch").bodyValue("[1]").exchange().expectStatus().isOk();
+        assertThat(responseCache.getStats().entries()).isEqualTo(1);
+
+        webTestClient.post().uri("/api/employees").bodyValue("{}").exchange().expectStatus().isOk();
+        assertThat(responseCache.getStats().entries()).isZero();
+
+        webTestClient.get().uri("/api/employees/1").exchange()
+                .expectHeader().valueEquals("X-Cache", "MISS");
+        assertThat(backendCalls).hasValue(2);
+    }
+
+    @Test
+    void oversizedBodyIsPassedThroughUncached() {
+        for (int i = 0; i < 2; i++) {
+            webTestClient.get().uri("/api/employees/large").exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().doesNotExist(HttpHeaders.ETAG)
+                    .expectBody(String.class).value(body -> assertThat(body).hasSize(204));
+        }
+        assertThat(backendCalls).hasValue(2);
+        assertThat(responseCache.getStats().entries()).isZero();
+    }
+
+    @Test
+    void actuatorEndpointReportsStatsAndClears() {
+        webTestClient.get().uri("/api/employees/1").exchange().expectStatus().isOk();
+
+        webTestClient.get().uri("/actuator/responsecache").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.entries").isEqualTo(1);
+
+        webTestClient.delete().uri("/actuator/responsecache").exchange().expectStatus().is2xxSuccessful();
+        assertThat(responseCache.getStats().entries()).isZero();
+    }
+}
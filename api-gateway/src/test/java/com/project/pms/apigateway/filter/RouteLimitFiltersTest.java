@@ -0,0 +1,103 @@
+package com.project.pms.apigateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.gateway.discovery.locator.enabled=false",
+        "gateway.rate-limit.trusted-proxies=1"
+})
+class RouteLimitFiltersTest {
+
+    private static final DisposableServer backend = HttpServer.create().port(0)
+            .route(routes -> routes
+                    .get("/api/payroll/**", (request, response) -> response.sendString(Mono.just("ok")))
+                    .post("/api/payroll/generate/{id}", (request, response) -> response.sendString(
+                            Mono.delay(Duration.ofMillis(500)).thenReturn("ok"))))
+            .bindNow();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void routes(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.gateway.routes[0].id", () -> "payroll-service");
+        registry.add("spring.cloud.gateway.routes[0].uri", () -> "http://localhost:" + backend.port());
+        registry.add("spring.cloud.gateway.routes[0].predicates[0]", () -> "Path=/api/payroll/**");
+        registry.add("spring.cloud.gateway.routes[0].predicates[1]", () -> "Method=GET");
+        registry.add("spring.cloud.gateway.routes[0].filters[0].name", () -> "RequestRateLimiter");
+        registry.add("spring.cloud.gateway.routes[0].filters[0].args.local-rate-limiter.replenish-rate", () -> "1");
+        registry.add("spring.cloud.gateway.routes[0].filters[0].args.local-rate-limiter.burst-capacity", () -> "2");
+
+        registry.add("spring.cloud.gateway.routes[1].id", () -> "payroll-generate");
+        registry.add("spring.cloud.gateway.routes[1].uri", () -> "http://localhost:" + backend.port());
+        registry.add("spring.cloud.gateway.routes[1].predicates[0]", () -> "Path=/api/payroll/generate/**");
+        registry.add("spring.cloud.gateway.routes[1].filters[0]", () -> "ConcurrencyLimit=1");
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.disposeNow();
+    }
+
+    @Test
+    void clientOverBurstIsRejectedWith429() {
+        for (int i = 0; i < 2; i++) {
+            webTestClient.get().uri("/api/payroll/1").header("X-Forwarded-For", "10.0.0.1").exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().valueEquals(LocalRateLimiter.BURST_CAPACITY_HEADER, "2");
+        }
+        webTestClient.get().uri("/api/payroll/1").header("X-Forwarded-For", "10.0.0.1").exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1")
+                .expectHeader().valueEquals(LocalRateLimiter.REMAINING_HEADER, "0");
+
+        webTestClient.get().uri("/api/payroll/1").header("X-Forwarded-For", "10.0.0.2").exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void clientCannotChooseItsKeyWithForgedForwardedHops() {
+        for (int i = 0; i < 2; i++) {
+            webTestClient.get().uri("/api/payroll/2").header("X-Forwarded-For", "192.0.2." + i + ", 10.0.0.3")
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+        webTestClient.get().uri("/api/payroll/2").header("X-Forwarded-For", "192.0.2.9, 10.0.0.3").exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void requestsOverInFlightLimitAreShedWith503() {
+        WebClient client = WebClient.create("http://localhost:" + port);
+        List<Integer> statuses = Flux.range(0, 2)
+                .flatMap(i -> client.post().uri("/api/payroll/generate/" + i)
+                        .exchangeToMono(response -> response.releaseBody()
+                                .thenReturn(response.statusCode().value())))
+                .collectList().block();
+
+        assertThat(statuses).containsExactlyInAnyOrder(200, 503);
+        webTestClient.post().uri("/api/payroll/generate/3").exchange().expectStatus().isOk();
+    }
+}
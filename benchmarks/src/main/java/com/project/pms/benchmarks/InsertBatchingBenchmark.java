@@ -0,0 +1,123 @@
+package com.project.pms.benchmarks;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rows per second persisted through Hibernate with {@code hibernate.jdbc.batch_size=50}, for the
+ * old IDENTITY ids and the pooled table generator the payroll, attendance and leave entities use
+ * now. IDENTITY needs the generated key back after every row, so Hibernate sends one INSERT per
+ * row; pooled ids let it send them in batches of 50.
+ * <p>
+ * Runs against in-memory H2, which has no network round trip, so the gap understates what a
+ * remote MariaDB sees. Point {@code -Djdbc.url}, {@code -Djdbc.user} and {@code -Djdbc.password}
+ * at a scratch MariaDB database to measure that instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertBatchingBenchmark {
+
+    private static final int ROWS = 500;
+
+    @Param({"IDENTITY", "POOLED"})
+    private String idStrategy;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityPayroll.class)
+                .addAnnotatedClass(PooledPayroll.class)
+                .setProperty(AvailableSettings.URL,
+                        System.getProperty("jdbc.url", "jdbc:h2:mem:inserts;MODE=MySQL;DB_CLOSE_DELAY=-1"))
+                .setProperty(AvailableSettings.USER, System.getProperty("jdbc.user", "sa"))
+                .setProperty(AvailableSettings.PASS, System.getProperty("jdbc.password", ""))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insert() {
+        boolean pooled = "POOLED".equals(idStrategy);
+        LocalDate payDate = LocalDate.of(2024, 1, 31);
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                PayrollRow row = pooled ? new PooledPayroll() : new IdentityPayroll();
+                row.employeeId = (long) i;
+                row.payDate = payDate;
+                row.totalPay = 4250.0;
+                session.persist(row);
+            }
+        });
+    }
+
+    @MappedSuperclass
+    public abstract static class PayrollRow {
+
+        @Column(nullable = false)
+        Long employeeId;
+
+        @Column(nullable = false)
+        LocalDate payDate;
+
+        @Column(nullable = false)
+        Double totalPay;
+    }
+
+    @Entity
+    @Table(name = "identity_payrolls")
+    public static class IdentityPayroll extends PayrollRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+    }
+
+    @Entity
+    @Table(name = "pooled_payrolls")
+    public static class PooledPayroll extends PayrollRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_payroll_id")
+        @TableGenerator(name = "pooled_payroll_id", table = "id_generators", pkColumnName = "gen_name",
+                valueColumnName = "next_val", pkColumnValue = "pooled_payrolls", allocationSize = 50)
+        Long id;
+    }
+}
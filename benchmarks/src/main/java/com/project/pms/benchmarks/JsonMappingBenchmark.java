@@ -0,0 +1,113 @@
+package com.project.pms.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.project.pms.attendanceservice.entity.Attendance;
+import com.project.pms.employeeservice.entity.Employee;
+import com.project.pms.payrollservice.entity.Payroll;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson round trips of the entities the services return, with the mapper
+ * configured the way Spring Boot configures its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMappingBenchmark {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private Payroll payroll;
+    private Employee employee;
+    private Attendance attendance;
+
+    private byte[] payrollJson;
+    private byte[] employeeJson;
+    private byte[] attendanceJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        payroll = new Payroll();
+        payroll.setPayrollId(1L);
+        payroll.setEmployeeId(42L);
+        payroll.setPayrollPayDate(new Date());
+        payroll.setPayrollPeriod(Payroll.periodOf(payroll.getPayrollPayDate()));
+        payroll.setPayrollBaseSalary(900000.0);
+        payroll.setPayrollExperienceBonus(100000.0);
+        payroll.setPayrollDeductions(101500.0);
+        payroll.setPayrollTotalPay(898500.0);
+
+        employee = new Employee();
+        employee.setEmployeeId(42L);
+        employee.setEmployeeName("John Doe");
+        employee.setEmployeeEmail("john@example.com");
+        employee.setEmployeeJoinDate(new Date());
+        employee.setPositionId(3L);
+        employee.setDepartmentId(2L);
+
+        attendance = new Attendance();
+        attendance.setAttendanceId(7L);
+        attendance.setEmployeeId(42L);
+        attendance.setDate(LocalDate.now());
+        attendance.setCheckInTime(LocalTime.of(9, 2, 11));
+        attendance.setCheckOutTime(LocalTime.of(17, 45, 3));
+
+        payrollJson = objectMapper.writeValueAsBytes(payroll);
+        employeeJson = objectMapper.writeValueAsBytes(employee);
+        attendanceJson = objectMapper.writeValueAsBytes(attendance);
+    }
+
+    @Benchmark
+    public byte[] serializePayroll() throws IOException {
+        return objectMapper.writeValueAsBytes(payroll);
+    }
+
+    @Benchmark
+    public Payroll deserializePayroll() throws IOException {
+        return objectMapper.readValue(payrollJson, Payroll.class);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws IOException {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public Employee deserializeEmployee() throws IOException {
+        return objectMapper.readValue(employeeJson, Employee.class);
+    }
+
+    @Benchmark
+    public byte[] serializeAttendance() throws IOException {
+        return objectMapper.writeValueAsBytes(attendance);
+    }
+
+    @Benchmark
+    public Attendance deserializeAttendance() throws IOException {
+        return objectMapper.readValue(attendanceJson, Attendance.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.pms.benchmarks;
+
+import com.project.pms.leaveservice.entity.Leave;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Checks a requested range against one employee's existing leaves: three-day
+ * leaves, one every two weeks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaveOverlapBenchmark {
+
+    @Param({"10", "100"})
+    private int leavesPerEmployee;
+
+    private List<Leave> leaves;
+    private Leave overlapping;
+    private Leave free;
+
+    @Setup
+    public void setUp() {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        leaves = new ArrayList<>(leavesPerEmployee);
+        for (int i = 0; i < leavesPerEmployee; i++) {
+            leaves.add(leave(start.plusWeeks(2L * i), 3));
+        }
+        overlapping = leave(leaves.get(leavesPerEmployee / 2).getEndDate(), 2);
+        free = leave(start.plusWeeks(2L * leavesPerEmployee), 5);
+    }
+
+    @Benchmark
+    public boolean overlapFound() {
+        return anyOverlap(overlapping);
+    }
+
+    @Benchmark
+    public boolean noOverlap() {
+        return anyOverlap(free);
+    }
+
+    private boolean anyOverlap(Leave requested) {
+        for (Leave leave : leaves) {
+            if (leave.overlaps(requested)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Leave leave(LocalDate startDate, int days) {
+        Leave leave = new Leave();
+        leave.setEmployeeId(42L);
+        leave.setStartDate(startDate);
+        leave.setEndDate(startDate.plusDays(days - 1));
+        return leave;
+    }
+}
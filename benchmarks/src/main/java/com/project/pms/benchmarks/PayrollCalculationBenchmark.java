@@ -0,0 +1,80 @@
+package com.project.pms.benchmarks;
+
+import com.project.pms.payrollservice.dto.Position;
+import com.project.pms.payrollservice.entity.Payroll;
+import com.project.pms.payrollservice.service.PayrollCalculator;
+import com.project.pms.payrollservice.service.PayrollService;
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayrollCalculationBenchmark {
+
+    private static final int MIXED_SALARIES = 1024;
+
+    @Param({"350000", "1000000", "2600000"})
+    private double grossPay;
+
+    private final PayrollCalculator payrollCalculator = PayrollCalculator.fromSlabs(PayrollCalculator.DEFAULT_SLABS);
+    private final PayrollService payrollService = new PayrollService();
+
+    private long grossPayMinor;
+    private Position position;
+    private Date payDate;
+    private long[] mixedSalaries;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Field calculatorField = PayrollService.class.getDeclaredField("payrollCalculator");
+        calculatorField.setAccessible(true);
+        calculatorField.set(payrollService, payrollCalculator);
+
+        grossPayMinor = PayrollCalculator.toMinor(grossPay);
+        position = new Position();
+        position.setPositionId(1L);
+        position.setPositionTitle("Engineer");
+        position.setPositionBaseSalary(grossPay * 0.9);
+        position.setPositionExperienceBonus(grossPay * 0.1);
+        payDate = new Date();
+
+        SplittableRandom random = new SplittableRandom(42);
+        mixedSalaries = new long[MIXED_SALARIES];
+        for (int i = 0; i < MIXED_SALARIES; i++) {
+            mixedSalaries[i] = random.nextLong(20_000_000, 300_000_000);
+        }
+    }
+
+    @Benchmark
+    public long calculateTax() {
+        return payrollCalculator.taxMinor(grossPayMinor);
+    }
+
+    @Benchmark
+    public long calculateTaxMixedSlabs() {
+        return payrollCalculator.taxMinor(mixedSalaries[cursor++ & (MIXED_SALARIES - 1)]);
+    }
+
+    @Benchmark
+    public Payroll buildPayroll() {
+        return payrollService.buildPayroll(1L, position, 1500.0, payDate);
+    }
+}
@@ -0,0 +1,127 @@
+package com.project.pms.benchmarks;
+
+import com.project.pms.payrollservice.dto.PayrollSimulation;
+import com.project.pms.payrollservice.dto.Position;
+import com.project.pms.payrollservice.dto.SimulationRequest;
+import com.project.pms.payrollservice.repository.PayrollProjectionRepository;
+import com.project.pms.payrollservice.service.PayrollCalculator;
+import com.project.pms.payrollservice.service.PayrollSimulationService;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A what-if simulation over an in-memory snapshot, so the score is the pricing work without
+ * the database reads. Parallelism 1 is the sequential baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayrollSimulationBenchmark {
+
+    private static final int DEPARTMENTS = 50;
+    private static final int POSITIONS = 500;
+
+    @Param({"100000"})
+    private int employees;
+
+    @Param({"1", "0"})
+    private int parallelism;
+
+    private final PayrollSimulationService simulationService = new PayrollSimulationService();
+    private ForkJoinPool pool;
+    private SimulationRequest request;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Position> positions = new ArrayList<>(POSITIONS);
+        for (long id = 1; id <= POSITIONS; id++) {
+            Position position = new Position();
+            position.setPositionId(id);
+            position.setPositionBaseSalary((double) random.nextInt(200_000, 3_000_000));
+            position.setPositionExperienceBonus((double) random.nextInt(0, 200_000));
+            positions.add(position);
+        }
+        long[] departments = new long[employees];
+        long[] assignedPositions = new long[employees];
+        for (int i = 0; i < employees; i++) {
+            departments[i] = 1 + (long) i * DEPARTMENTS / employees;
+            assignedPositions[i] = random.nextLong(1, POSITIONS + 1);
+        }
+        Map<Long, String> departmentNames = new HashMap<>();
+        for (long id = 1; id <= DEPARTMENTS; id++) {
+            departmentNames.put(id, "Department " + id);
+        }
+
+        PayrollProjectionRepository snapshot = new PayrollProjectionRepository() {
+            @Override
+            public List<Position> findPositions() {
+                return positions;
+            }
+
+            @Override
+            public Map<Long, String> findDepartmentNames() {
+                return departmentNames;
+            }
+
+            @Override
+            public void forEachAssignment(Long departmentId, AssignmentHandler handler) {
+                for (int i = 0; i < departments.length; i++) {
+                    handler.accept(departments[i], assignedPositions[i]);
+                }
+            }
+        };
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        set("projectionRepository", snapshot);
+        set("payrollCalculator", PayrollCalculator.fromSlabs(PayrollCalculator.DEFAULT_SLABS));
+        set("payrollSimulationPool", pool);
+
+        request = new SimulationRequest();
+        List<Position> raises = new ArrayList<>();
+        for (long id = 1; id <= POSITIONS; id += 10) {
+            Position raise = new Position();
+            raise.setPositionId(id);
+            raise.setPositionBaseSalary(positions.get((int) id - 1).getPositionBaseSalary() * 1.05);
+            raises.add(raise);
+        }
+        request.setPositions(raises);
+        request.setTaxSlabs("500000:5,1000000:12,1500000:18,2000000:25");
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public PayrollSimulation simulate() {
+        return simulationService.simulate(request);
+    }
+
+    private void set(String name, Object value) throws ReflectiveOperationException {
+        Field field = PayrollSimulationService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(simulationService, value);
+    }
+}
@@ -0,0 +1,71 @@
+#!/bin/bash
+
+# Compare platform-thread and virtual-thread request handling for one service.
+# Starts the service jar twice with the same heap and CPU set, once per mode,
+# and drives it with `hey` at increasing concurrency.
+#
+# Usage: ./load-test.sh [service-dir] [port] [path]
+# Requires: hey (https://github.com/rakyll/hey), Java 21, jar built with -Pjava21
+
+SERVICE_DIR=${1:-services/employee-service}
+PORT=${2:-8081}
+REQUEST_PATH=${3:-/api/employees}
+HEAP=${HEAP:-512m}
+CPUS=${CPUS:-0-1}
+DURATION=${DURATION:-30s}
+CONCURRENCY_LEVELS=${CONCURRENCY_LEVELS:-"50 200 800 2000"}
+RESULTS_DIR=${RESULTS_DIR:-load-test-results}
+
+if ! command -v hey > /dev/null; then
+    echo "hey is not installed: go install github.com/rakyll/hey@latest"
+    exit 1
+fi
+
+mkdir -p "$RESULTS_DIR"
+
+run_mode() {
+    local mode=$1
+    local virtual=$2
+
+    echo "Starting $SERVICE_DIR with $mode threads (heap $HEAP, cpus $CPUS)..."
+    taskset -c "$CPUS" java -Xms"$HEAP" -Xmx"$HEAP" \
+        -Dpms.threads.virtual.enabled="$virtual" \
+        -Dspring.jpa.show-sql=false \
+        -jar "$SERVICE_DIR"/target/*-exec.jar > "$RESULTS_DIR/$mode-service.log" 2>&1 &
+    local pid=$!
+
+    until curl -s -o /dev/null "http://localhost:$PORT$REQUEST_PATH"; do
+        sleep 1
+    done
+
+    # warm up the JIT and connection pool before measuring
+    hey -z 10s -c 50 "http://localhost:$PORT$REQUEST_PATH" > /dev/null
+
+    for concurrency in $CONCURRENCY_LEVELS; do
+        echo "  $mode, $concurrency concurrent requests"
+        hey -z "$DURATION" -c "$concurrency" "http://localhost:$PORT$REQUEST_PATH" \
+            > "$RESULTS_DIR/$mode-c$concurrency.txt"
+    done
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null
+}
+
+run_mode "platform" "false"
+run_mode "virtual" "true"
+
+echo ""
+echo "mode      concurrency  req/s       p99         failed"
+for mode in platform virtual; do
+    for concurrency in $CONCURRENCY_LEVELS; do
+        file="$RESULTS_DIR/$mode-c$concurrency.txt"
+        rps=$(awk '/Requests\/sec/ {print $2}' "$file")
+        p99=$(awk '/99% in/ {print $3, $4}' "$file")
+        errors=$(awk '/Status code distribution/ {codes = 1; next}
+                      /Error distribution/ {codes = 0; failures = 1; next}
+                      codes && /\[[0-9]+\]/ && !/\[200\]/ {sum += $2}
+                      failures && /\[[0-9]+\]/ {gsub(/[][]/, "", $1); sum += $1}
+                      END {print sum + 0}' "$file")
+        printf "%-9s %-12s %-11s %-11s %s\n" "$mode" "$concurrency" "$rps" "$p99" "$errors"
+    done
+done
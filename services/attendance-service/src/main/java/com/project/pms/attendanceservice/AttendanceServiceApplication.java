@@ -1,15 +1,42 @@
 package com.project.pms.attendanceservice;
 
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.client.RestTemplate;
 
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableScheduling
 public class AttendanceServiceApplication {
 
     public static void main(String[] args) {
         SpringApplication.run(AttendanceServiceApplication.class, args);
     }
 
+    @Bean
+    public ObservedAspect observedAspect(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new ObservedAspect(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+
+    @Bean
+    @LoadBalanced
+    public RestTemplate employeeRestTemplate(ObjectProvider<RestTemplateBuilder> restTemplateBuilder,
+                                             @Value("${attendance.clients.connect-timeout:1s}") Duration connectTimeout,
+                                             @Value("${attendance.clients.read-timeout:5s}") Duration readTimeout) {
+        return restTemplateBuilder.getIfAvailable(RestTemplateBuilder::new)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+    }
+
 }
\ No newline at end of file
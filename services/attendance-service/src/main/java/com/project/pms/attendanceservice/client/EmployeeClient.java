@@ -0,0 +1,21 @@
+package com.project.pms.attendanceservice.client;
+
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+public class EmployeeClient {
+
+    @Autowired
+    @Qualifier("employeeRestTemplate")
+    private RestTemplate restTemplate;
+
+    public List<Long> getEmployeeIds() {
+        Long[] ids = restTemplate.getForObject("http://employee-service/api/employees/ids", Long[].class);
+        return ids != null ? Arrays.asList(ids) : List.of();
+    }
+}
@@ -1,8 +1,22 @@
 package com.project.pms.attendanceservice.controller;
 
+import com.project.pms.attendanceservice.dto.ArchiveSegment;
+import com.project.pms.attendanceservice.dto.AttendanceDays;
+import com.project.pms.attendanceservice.dto.AttendanceEvent;
+import com.project.pms.attendanceservice.dto.AttendanceStats;
 import com.project.pms.attendanceservice.entity.Attendance;
+import com.project.pms.attendanceservice.entity.AttendanceSummary;
+import com.project.pms.attendanceservice.service.AttendanceArchiveService;
+import com.project.pms.attendanceservice.service.AttendanceIngestService;
 import com.project.pms.attendanceservice.service.AttendanceService;
+import com.project.pms.attendanceservice.service.AttendanceSummaryService;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -15,18 +29,115 @@ public class AttendanceController {
     @Autowired
     private AttendanceService attendanceService;
 
+    @Autowired
+    private AttendanceIngestService attendanceIngestService;
+
+    @Autowired
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Autowired
+    private AttendanceArchiveService attendanceArchiveService;
+
     @PostMapping("/checkin/{employeeId}")
-    public ResponseEntity<Attendance> checkIn(@PathVariable Long employeeId) {
+    public ResponseEntity<?> checkIn(@PathVariable Long employeeId) {
+        if (attendanceIngestService.isEnabled()) {
+            return submit(AttendanceEvent.Type.CHECK_IN, employeeId);
+        }
         return ResponseEntity.ok(attendanceService.checkIn(employeeId));
     }
 
     @PostMapping("/checkout/{employeeId}")
-    public ResponseEntity<Attendance> checkOut(@PathVariable Long employeeId) {
+    public ResponseEntity<?> checkOut(@PathVariable Long employeeId) {
+        if (attendanceIngestService.isEnabled()) {
+            return submit(AttendanceEvent.Type.CHECK_OUT, employeeId);
+        }
         return ResponseEntity.ok(attendanceService.checkOut(employeeId));
     }
 
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<List<Attendance>> getAttendanceForEmployee(@PathVariable Long employeeId) {
-        return ResponseEntity.ok(attendanceService.getAttendanceForEmployee(employeeId));
+    public ResponseEntity<List<Attendance>> getAttendanceForEmployee(@PathVariable Long employeeId,
+                                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                     @RequestParam(defaultValue = "false") boolean archived) {
+        if (from == null && to == null && !archived) {
+            return ResponseEntity.ok(attendanceService.getAttendanceForEmployee(employeeId));
+        }
+        LocalDate until = to != null ? to : LocalDate.now();
+        LocalDate since = from != null ? from : until.minusYears(1);
+        if (until.isBefore(since)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(attendanceService.getAttendanceForEmployee(employeeId, since, until, archived));
+    }
+
+    /** Attended days of a month as one bitset per employee, for payroll to prefetch in one call. */
+    @GetMapping("/days")
+    public ResponseEntity<List<AttendanceDays>> getAttendanceDays(@RequestParam YearMonth month,
+                                                                  @RequestParam(required = false) Long employeeId) {
+        return ResponseEntity.ok(attendanceService.getAttendanceDays(month, employeeId));
+    }
+
+    @GetMapping("/summary/employee/{employeeId}")
+    public ResponseEntity<List<AttendanceSummary>> getSummariesForEmployee(@PathVariable Long employeeId,
+                                                                           @RequestParam(required = false) YearMonth from,
+                                                                           @RequestParam(required = false) YearMonth to) {
+        YearMonth until = to != null ? to : YearMonth.now();
+        return ResponseEntity.ok(attendanceSummaryService.getSummaries(employeeId,
+                from != null ? from : until.minusMonths(11), until));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<List<AttendanceSummary>> getSummaries(@RequestParam(required = false) YearMonth from,
+                                                                @RequestParam(required = false) YearMonth to) {
+        YearMonth until = to != null ? to : YearMonth.now();
+        return ResponseEntity.ok(attendanceSummaryService.getSummaries(from != null ? from : until, until));
+    }
+
+    @GetMapping("/stats/employee/{employeeId}")
+    public ResponseEntity<List<AttendanceStats>> getStatsForEmployee(@PathVariable Long employeeId,
+                                                                     @RequestParam(required = false) YearMonth from,
+                                                                     @RequestParam(required = false) YearMonth to,
+                                                                     @RequestParam(required = false) LocalTime lateAfter) {
+        YearMonth until = to != null ? to : YearMonth.now();
+        return ResponseEntity.ok(attendanceSummaryService.getStats(employeeId, from != null ? from : until.minusMonths(11),
+                until, lateAfter != null ? lateAfter : attendanceSummaryService.getLateAfter()));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<AttendanceStats>> getStats(@RequestParam(required = false) YearMonth from,
+                                                          @RequestParam(required = false) YearMonth to,
+                                                          @RequestParam(required = false) LocalTime lateAfter) {
+        YearMonth until = to != null ? to : YearMonth.now();
+        return ResponseEntity.ok(attendanceSummaryService.getStats(null, from != null ? from : until, until,
+                lateAfter != null ? lateAfter : attendanceSummaryService.getLateAfter()));
+    }
+
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<Integer> rebuildSummaries(@RequestParam YearMonth from,
+                                                    @RequestParam(required = false) YearMonth to) {
+        return ResponseEntity.ok(attendanceSummaryService.rebuild(from, to != null ? to : YearMonth.now()));
+    }
+
+    @GetMapping("/archive")
+    public List<ArchiveSegment> getArchiveSegments() {
+        return attendanceArchiveService.getSegments();
+    }
+
+    @PostMapping("/archive/run")
+    public ResponseEntity<List<ArchiveSegment>> archiveColdMonths() {
+        try {
+            return ResponseEntity.ok(attendanceArchiveService.archiveColdMonths());
+        } catch (IllegalStateException e) {
+            // Rows were added to a month while it was being archived
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    private ResponseEntity<?> submit(AttendanceEvent.Type type, Long employeeId) {
+        return attendanceIngestService.submit(type, employeeId)
+                .<ResponseEntity<?>>map(event -> ResponseEntity.accepted().body(event))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build());
     }
 }
\ No newline at end of file
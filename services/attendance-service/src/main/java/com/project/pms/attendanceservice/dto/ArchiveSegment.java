@@ -0,0 +1,18 @@
+package com.project.pms.attendanceservice.dto;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One archived month: its rows were moved from the database into {@code fileName}. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveSegment {
+    private YearMonth month;
+    private String fileName;
+    private long rowCount;
+    private Instant archivedAt;
+}
@@ -0,0 +1,14 @@
+package com.project.pms.attendanceservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Days of one month an employee attended, as a bitset: bit {@code d - 1} is day-of-month {@code d}. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceDays {
+    private Long employeeId;
+    private long days;
+}
@@ -0,0 +1,26 @@
+package com.project.pms.attendanceservice.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceEvent {
+
+    public enum Type {
+        CHECK_IN,
+        CHECK_OUT
+    }
+
+    private Type type;
+
+    private Long employeeId;
+
+    private LocalDate date;
+
+    private LocalTime time;
+}
@@ -0,0 +1,24 @@
+package com.project.pms.attendanceservice.dto;
+
+import java.time.YearMonth;
+import lombok.Data;
+
+/**
+ * One employee's attendance over a range of months, computed from the compact summaries.
+ * Working days are the weekdays of the range up to today; an absence is a working day without
+ * a check-in. Absences are not counted for the {@code unknownMonths} whose summaries predate
+ * the compact form.
+ */
+@Data
+public class AttendanceStats {
+    private Long employeeId;
+    private YearMonth from;
+    private YearMonth to;
+    private int daysPresent;
+    private int workingDays;
+    private int absences;
+    private long totalMinutes;
+    private int lateArrivals;
+    private int missingCheckouts;
+    private int unknownMonths;
+}
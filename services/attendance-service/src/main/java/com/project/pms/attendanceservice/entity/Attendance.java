@@ -7,12 +7,16 @@ import lombok.Data;
 
 
 @Entity
-@Table(name = "attendance")
+@Table(name = "attendance",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_employee_date", columnNames = {"employeeId", "date"}),
+        indexes = @Index(name = "idx_attendance_date", columnList = "date, employeeId"))
 @Data
 public class Attendance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attendance_id")
+    @TableGenerator(name = "attendance_id", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "attendance", allocationSize = 50)
     private Long attendanceId;
 
     @Column(nullable = false)
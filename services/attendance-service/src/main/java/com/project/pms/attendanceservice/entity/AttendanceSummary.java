@@ -0,0 +1,56 @@
+package com.project.pms.attendanceservice.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.LocalDate;
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * One employee's attendance for one calendar month, kept current as check-ins and
+ * check-outs are recorded. A day without a check-out counts towards
+ * {@code missingCheckouts} and adds no minutes.
+ */
+@Entity
+@Table(name = "attendance_summaries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_summaries_employee_month", columnNames = {"employeeId", "monthStart"}),
+        indexes = @Index(name = "idx_attendance_summaries_month", columnList = "monthStart"))
+@Data
+public class AttendanceSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attendance_summary_id")
+    @TableGenerator(name = "attendance_summary_id", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "attendance_summaries", allocationSize = 50)
+    private Long summaryId;
+
+    @Column(nullable = false)
+    private Long employeeId;
+
+    /** First day of the month. */
+    @Column(nullable = false)
+    private LocalDate monthStart;
+
+    @Column(nullable = false)
+    private int daysPresent;
+
+    @Column(nullable = false)
+    private long totalMinutes;
+
+    @Column(nullable = false)
+    private int lateArrivals;
+
+    @Column(nullable = false)
+    private int missingCheckouts;
+
+    /** Days with a check-in; bit {@code d - 1} is day {@code d}. */
+    @Column(nullable = false)
+    private long presentDays;
+
+    /**
+     * Check-in and check-out minutes of each day, packed by {@code CompactAttendance}; null for
+     * summaries written before the column existed until their month is rebuilt.
+     */
+    @JsonIgnore
+    @Column(length = 124)
+    private byte[] checkTimes;
+}
@@ -0,0 +1,102 @@
+package com.project.pms.attendanceservice.repository;
+
+import com.project.pms.attendanceservice.dto.ArchiveSegment;
+import io.micrometer.observation.annotation.Observed;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class AttendanceArchiveRepository {
+
+    public static final String CSV_HEADER = "attendance_id,employee_id,date,check_in_time,check_out_time\n";
+
+    private static final int FETCH_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Observed(name = "pms.repository.batch", contextualName = "attendance-archive-segments")
+    public List<ArchiveSegment> findSegments() {
+        return jdbcTemplate.query("SELECT month_start, file_name, row_count, archived_at"
+                + " FROM attendance_archive_segments ORDER BY month_start", (rs, rowNum) -> new ArchiveSegment(
+                        YearMonth.from(rs.getDate(1).toLocalDate()), rs.getString(2), rs.getLong(3),
+                        rs.getTimestamp(4).toInstant()));
+    }
+
+    @Observed(name = "pms.repository.batch", contextualName = "attendance-archive-oldest-date")
+    public Optional<LocalDate> findOldestDateBefore(LocalDate cutoff) {
+        Date oldest = jdbcTemplate.queryForObject("SELECT MIN(date) FROM attendance WHERE date < ?", Date.class,
+                Date.valueOf(cutoff));
+        return Optional.ofNullable(oldest).map(Date::toLocalDate);
+    }
+
+    /** Writes the month's rows as CSV from a forward-only cursor. Returns the number of rows written. */
+    @Observed(name = "pms.repository.batch", contextualName = "attendance-archive-write-month")
+    public long writeMonth(YearMonth month, Writer out) throws IOException {
+        out.write(CSV_HEADER);
+        StringBuilder line = new StringBuilder(64);
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement("SELECT attendance_id, employee_id, date, check_in_time,"
+                                + " check_out_time FROM attendance WHERE date BETWEEN ? AND ? ORDER BY date, employee_id",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(FETCH_SIZE);
+                ps.setDate(1, Date.valueOf(month.atDay(1)));
+                ps.setDate(2, Date.valueOf(month.atEndOfMonth()));
+                return ps;
+            }, (ResultSet rs) -> {
+                line.setLength(0);
+                line.append(rs.getLong(1)).append(',')
+                        .append(rs.getLong(2)).append(',')
+                        .append(rs.getDate(3)).append(',');
+                appendTime(line, rs.getObject(4, LocalTime.class)).append(',');
+                appendTime(line, rs.getObject(5, LocalTime.class)).append('\n');
+                try {
+                    out.append(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return rows[0];
+    }
+
+    /**
+     * Lists the month in the catalog and deletes its rows in one transaction. Fails, and so
+     * keeps the rows, when a row was added to the month after its file was written.
+     */
+    @Transactional
+    @Observed(name = "pms.repository.batch", contextualName = "attendance-archive-commit-segment")
+    public void commitSegment(YearMonth month, String fileName, long rowCount, Timestamp archivedAt) {
+        jdbcTemplate.update("INSERT INTO attendance_archive_segments (month_start, file_name, row_count, archived_at)"
+                + " VALUES (?, ?, ?, ?)", Date.valueOf(month.atDay(1)), fileName, rowCount, archivedAt);
+        int deleted = jdbcTemplate.update("DELETE FROM attendance WHERE date BETWEEN ? AND ?",
+                Date.valueOf(month.atDay(1)), Date.valueOf(month.atEndOfMonth()));
+        if (deleted != rowCount) {
+            throw new IllegalStateException("Attendance for " + month + " changed while it was archived: wrote "
+                    + rowCount + " rows, found " + deleted);
+        }
+    }
+
+    private static StringBuilder appendTime(StringBuilder line, LocalTime time) {
+        return time != null ? line.append(time) : line;
+    }
+}
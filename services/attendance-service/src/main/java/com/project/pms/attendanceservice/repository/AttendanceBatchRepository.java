@@ -0,0 +1,69 @@
+package com.project.pms.attendanceservice.repository;
+
+import com.project.pms.attendanceservice.entity.Attendance;
+import io.micrometer.observation.annotation.Observed;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class AttendanceBatchRepository {
+
+    private static final String UPSERT_CHECK_IN = "INSERT INTO attendance (attendance_id, employee_id, date,"
+            + " check_in_time, check_out_time) VALUES (?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE check_in_time = VALUES(check_in_time),"
+            + " check_out_time = COALESCE(VALUES(check_out_time), check_out_time)";
+
+    private static final String UPDATE_CHECK_OUT = "UPDATE attendance SET check_out_time = ?"
+            + " WHERE employee_id = ? AND date = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdGeneratorRepository idGeneratorRepository;
+
+    /**
+     * Writes {@code records} and returns the check-outs that matched no attendance row, i.e.
+     * check-outs on a day the employee has not checked in.
+     */
+    @Transactional
+    @Observed(name = "pms.repository.batch", contextualName = "attendance-batch-upsert")
+    public List<Attendance> upsertAll(Collection<Attendance> records) {
+        List<Object[]> checkIns = new ArrayList<>();
+        List<Object[]> checkOuts = new ArrayList<>();
+        List<Attendance> checkOutRecords = new ArrayList<>();
+        for (Attendance attendance : records) {
+            if (attendance.getCheckInTime() != null) {
+                checkIns.add(new Object[]{null, attendance.getEmployeeId(), attendance.getDate(),
+                        attendance.getCheckInTime(), attendance.getCheckOutTime()});
+            } else {
+                checkOuts.add(new Object[]{attendance.getCheckOutTime(), attendance.getEmployeeId(), attendance.getDate()});
+                checkOutRecords.add(attendance);
+            }
+        }
+        if (!checkIns.isEmpty()) {
+            // Rows that already exist keep their id; the ids reserved for them go unused.
+            long id = idGeneratorRepository.reserve("attendance", checkIns.size());
+            for (Object[] checkIn : checkIns) {
+                checkIn[0] = id++;
+            }
+            jdbcTemplate.batchUpdate(UPSERT_CHECK_IN, checkIns);
+        }
+        List<Attendance> unmatched = new ArrayList<>();
+        if (!checkOuts.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_CHECK_OUT, checkOuts);
+            for (int i = 0; i < counts.length; i++) {
+                // Drivers that do not report per-statement counts return SUCCESS_NO_INFO (-2).
+                if (counts[i] == 0) {
+                    unmatched.add(checkOutRecords.get(i));
+                }
+            }
+        }
+        return unmatched;
+    }
+}
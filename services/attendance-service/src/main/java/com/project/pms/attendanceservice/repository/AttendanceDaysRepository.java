@@ -0,0 +1,44 @@
+package com.project.pms.attendanceservice.repository;
+
+import com.project.pms.attendanceservice.dto.AttendanceDays;
+import io.micrometer.observation.annotation.Observed;
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AttendanceDaysRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Folds a month of attendance rows into one day bitset per employee. A row exists once the
+     * employee checked in, so its presence is what counts. Reads only idx_attendance_date, or
+     * uk_attendance_employee_date for a single employee.
+     */
+    @Observed(name = "pms.repository.batch", contextualName = "attendance-days-month")
+    public List<AttendanceDays> findMonth(YearMonth month, Long employeeId) {
+        String sql = "SELECT employee_id, date FROM attendance WHERE date BETWEEN ? AND ?"
+                + (employeeId != null ? " AND employee_id = ?" : "");
+        List<Object> args = new ArrayList<>(List.of(Date.valueOf(month.atDay(1)), Date.valueOf(month.atEndOfMonth())));
+        if (employeeId != null) {
+            args.add(employeeId);
+        }
+        Map<Long, Long> days = new TreeMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            long day = 1L << (rs.getDate(2).toLocalDate().getDayOfMonth() - 1);
+            days.merge(rs.getLong(1), day, (a, b) -> a | b);
+        }, args.toArray());
+
+        List<AttendanceDays> result = new ArrayList<>(days.size());
+        days.forEach((id, bits) -> result.add(new AttendanceDays(id, bits)));
+        return result;
+    }
+}
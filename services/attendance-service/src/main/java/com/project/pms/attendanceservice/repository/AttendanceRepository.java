@@ -2,6 +2,7 @@ package com.project.pms.attendanceservice.repository;
 
 import com.project.pms.attendanceservice.entity.Attendance;
 import java.time.LocalDate;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
@@ -12,4 +13,7 @@ import java.util.Optional;
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     Optional<Attendance> findByEmployeeIdAndDate(Long employeeId, LocalDate date);
     List<Attendance> findByEmployeeId(Long employeeId);
+    List<Attendance> findByEmployeeIdAndDateBetweenOrderByDate(Long employeeId, LocalDate from, LocalDate to);
+    List<Attendance> findByEmployeeIdInAndDateBetween(Collection<Long> employeeIds, LocalDate from, LocalDate to);
+    List<Attendance> findByDateBetween(LocalDate from, LocalDate to);
 }
\ No newline at end of file
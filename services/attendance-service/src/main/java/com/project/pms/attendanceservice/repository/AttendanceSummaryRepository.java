@@ -0,0 +1,20 @@
+package com.project.pms.attendanceservice.repository;
+
+import com.project.pms.attendanceservice.entity.AttendanceSummary;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+
+@Repository
+public interface AttendanceSummaryRepository extends JpaRepository<AttendanceSummary, Long> {
+    List<AttendanceSummary> findByEmployeeIdAndMonthStartBetweenOrderByMonthStart(Long employeeId, LocalDate from, LocalDate to);
+    List<AttendanceSummary> findByMonthStartBetweenOrderByEmployeeIdAscMonthStartAsc(LocalDate from, LocalDate to);
+    List<AttendanceSummary> findByEmployeeIdInAndMonthStart(Collection<Long> employeeIds, LocalDate monthStart);
+
+    @Query("SELECT DISTINCT s.monthStart FROM AttendanceSummary s WHERE s.checkTimes IS NULL ORDER BY s.monthStart")
+    List<LocalDate> findMonthsWithoutCheckTimes();
+}
@@ -0,0 +1,37 @@
+package com.project.pms.attendanceservice.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reserves ids from the {@code id_generators} rows behind the entities' {@code @TableGenerator}
+ * for rows written through {@link JdbcTemplate} instead of Hibernate. Follows Hibernate's pooled
+ * optimizer: a row holding N means every id above N - {@link #ALLOCATION_SIZE} is free. Like
+ * Hibernate, it updates the row in its own short transaction.
+ */
+@Repository
+public class IdGeneratorRepository {
+
+    /** Must match {@code allocationSize} of the entities' {@code @TableGenerator}. */
+    public static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the first of {@code count} consecutive ids that neither Hibernate nor another
+     * caller will hand out.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(String generator, int count) {
+        Long next = jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generators WHERE gen_name = ? FOR UPDATE", Long.class, generator);
+        long blocks = (count + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE;
+        jdbcTemplate.update("UPDATE id_generators SET next_val = ? WHERE gen_name = ?",
+                next + blocks * ALLOCATION_SIZE, generator);
+        return next - ALLOCATION_SIZE + 1;
+    }
+}
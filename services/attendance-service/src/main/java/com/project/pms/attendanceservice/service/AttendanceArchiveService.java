@@ -0,0 +1,151 @@
+package com.project.pms.attendanceservice.service;
+
+import com.project.pms.attendanceservice.dto.ArchiveSegment;
+import com.project.pms.attendanceservice.entity.Attendance;
+import com.project.pms.attendanceservice.repository.AttendanceArchiveRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Moves attendance months older than {@code attendance.archive.retain-months} out of the
+ * {@code attendance} table into one gzipped CSV per month, so the table and its indexes only
+ * hold recent history. {@code attendance_archive_segments} lists the archived months; reads of
+ * archived attendance open only the files of the months they overlap. Monthly summaries are
+ * kept, so summaries and stats still cover archived months.
+ * <p>
+ * A month's file is written and moved into place before its rows are deleted, and the catalog
+ * row and the delete share a transaction, so a failure at any point leaves the rows in the
+ * table and the next run archives the month again.
+ */
+@Service
+public class AttendanceArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceArchiveService.class);
+
+    @Autowired
+    private AttendanceArchiveRepository attendanceArchiveRepository;
+
+    @Value("${attendance.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${attendance.archive.retain-months:24}")
+    private int retainMonths;
+
+    @Value("${attendance.archive.dir:data/attendance-archive}")
+    private Path directory;
+
+    @Scheduled(cron = "${attendance.archive.cron:0 30 2 * * *}")
+    void scheduledArchive() {
+        if (enabled) {
+            archiveColdMonths();
+        }
+    }
+
+    /** Archives every month that ended more than {@code retain-months} ago, oldest first. */
+    public synchronized List<ArchiveSegment> archiveColdMonths() {
+        LocalDate cutoff = YearMonth.now().minusMonths(retainMonths).atDay(1);
+        List<ArchiveSegment> archived = new ArrayList<>();
+        for (Optional<LocalDate> oldest = attendanceArchiveRepository.findOldestDateBefore(cutoff);
+             oldest.isPresent(); oldest = attendanceArchiveRepository.findOldestDateBefore(cutoff)) {
+            archived.add(archiveMonth(YearMonth.from(oldest.get())));
+        }
+        return archived;
+    }
+
+    public synchronized ArchiveSegment archiveMonth(YearMonth month) {
+        if (findSegment(month).isPresent()) {
+            throw new IllegalStateException("Attendance for " + month + " is already archived");
+        }
+        String fileName = "attendance-" + month + ".csv.gz";
+        Path file = directory.resolve(fileName);
+        long started = System.nanoTime();
+        long rows;
+        try {
+            Files.createDirectories(directory);
+            Path partial = directory.resolve(fileName + ".partial");
+            try (Writer out = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(partial)),
+                    StandardCharsets.UTF_8)) {
+                rows = attendanceArchiveRepository.writeMonth(month, out);
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the attendance archive for " + month, e);
+        }
+
+        Instant archivedAt = Instant.now();
+        attendanceArchiveRepository.commitSegment(month, fileName, rows, Timestamp.from(archivedAt));
+        log.info("Archived {} attendance rows of {} to {} in {} ms", rows, month, file,
+                (System.nanoTime() - started) / 1_000_000);
+        return new ArchiveSegment(month, fileName, rows, archivedAt);
+    }
+
+    public List<ArchiveSegment> getSegments() {
+        return attendanceArchiveRepository.findSegments();
+    }
+
+    /** Archived attendance of one employee between {@code from} and {@code to}, ordered by date. */
+    public List<Attendance> findArchived(Long employeeId, LocalDate from, LocalDate to) {
+        List<Attendance> result = new ArrayList<>();
+        for (ArchiveSegment segment : attendanceArchiveRepository.findSegments()) {
+            if (segment.getMonth().atEndOfMonth().isBefore(from) || segment.getMonth().atDay(1).isAfter(to)) {
+                continue;
+            }
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(directory.resolve(segment.getFileName()))),
+                    StandardCharsets.UTF_8))) {
+                in.readLine();
+                for (String line = in.readLine(); line != null; line = in.readLine()) {
+                    Attendance attendance = parse(line);
+                    if (attendance.getEmployeeId().equals(employeeId) && !attendance.getDate().isBefore(from)
+                            && !attendance.getDate().isAfter(to)) {
+                        result.add(attendance);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read the attendance archive " + segment.getFileName(), e);
+            }
+        }
+        return result;
+    }
+
+    private Optional<ArchiveSegment> findSegment(YearMonth month) {
+        return attendanceArchiveRepository.findSegments().stream()
+                .filter(segment -> segment.getMonth().equals(month))
+                .findFirst();
+    }
+
+    private static Attendance parse(String line) {
+        String[] fields = line.split(",", -1);
+        Attendance attendance = new Attendance();
+        attendance.setAttendanceId(Long.parseLong(fields[0]));
+        attendance.setEmployeeId(Long.parseLong(fields[1]));
+        attendance.setDate(LocalDate.parse(fields[2]));
+        attendance.setCheckInTime(fields[3].isEmpty() ? null : LocalTime.parse(fields[3]));
+        attendance.setCheckOutTime(fields[4].isEmpty() ? null : LocalTime.parse(fields[4]));
+        return attendance;
+    }
+}
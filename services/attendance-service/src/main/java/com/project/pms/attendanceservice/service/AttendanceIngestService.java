@@ -0,0 +1,179 @@
+package com.project.pms.attendanceservice.service;
+
+import com.project.pms.attendanceservice.dto.AttendanceEvent;
+import com.project.pms.attendanceservice.entity.Attendance;
+import com.project.pms.attendanceservice.repository.AttendanceBatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Queued check-in/check-out ingestion. Accepted events are journaled and put on
+ * a bounded queue; a single writer drains the queue, merges the events into one
+ * row per employee-day and upserts them in a JDBC batch. When the queue is full
+ * new events are refused so callers can back off. A failed batch is retried as
+ * is before anything new is drained, and its journal segments stay on disk
+ * until it succeeds. A check-out for a day without a check-in has no row to
+ * update; it is logged and kept in the journal's {@code unmatched.log}.
+ */
+@Service
+public class AttendanceIngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceIngestService.class);
+
+    @Autowired
+    private AttendanceBatchRepository attendanceBatchRepository;
+
+    @Autowired
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Value("${attendance.ingest.enabled:false}")
+    private boolean enabled;
+
+    @Value("${attendance.ingest.queue-capacity:50000}")
+    private int queueCapacity;
+
+    @Value("${attendance.ingest.flush-interval:200ms}")
+    private Duration flushInterval;
+
+    @Value("${attendance.ingest.journal-dir:data/attendance-journal}")
+    private Path journalDir;
+
+    @Value("${attendance.ingest.journal-fsync:false}")
+    private boolean journalFsync;
+
+    private final Object lock = new Object();
+    private final List<AttendanceEvent> pending = new ArrayList<>();
+    private BlockingQueue<AttendanceEvent> queue;
+    private AttendanceJournal journal;
+    private ScheduledExecutorService writer;
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        journal = new AttendanceJournal(journalDir, journalFsync);
+        pending.addAll(journal.open());
+        if (!pending.isEmpty()) {
+            log.info("Replaying {} attendance events from {}", pending.size(), journalDir);
+        }
+        writer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("attendance-writer-"));
+        writer.scheduleWithFixedDelay(this::flush, 0, flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws IOException, InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        journal.close();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<AttendanceEvent> submit(AttendanceEvent.Type type, Long employeeId) {
+        AttendanceEvent event = new AttendanceEvent(type, employeeId, LocalDate.now(), LocalTime.now());
+        synchronized (lock) {
+            if (queue.remainingCapacity() == 0) {
+                return Optional.empty();
+            }
+            try {
+                journal.append(event);
+            } catch (IOException e) {
+                log.error("Could not journal attendance event for employee {}", employeeId, e);
+                return Optional.empty();
+            }
+            queue.add(event);
+        }
+        return Optional.of(event);
+    }
+
+    void flush() {
+        try {
+            if (pending.isEmpty()) {
+                synchronized (lock) {
+                    if (queue.isEmpty()) {
+                        return;
+                    }
+                    journal.rotate();
+                    queue.drainTo(pending);
+                }
+            }
+            Collection<Attendance> records = coalesce(pending);
+            List<Attendance> unmatched = attendanceBatchRepository.upsertAll(records);
+            synchronized (lock) {
+                if (!unmatched.isEmpty()) {
+                    log.warn("{} queued check-outs have no check-in on their day, kept in {}: {}",
+                            unmatched.size(), journalDir, unmatched);
+                    journal.appendUnmatched(unmatched.stream()
+                            .map(record -> new AttendanceEvent(AttendanceEvent.Type.CHECK_OUT, record.getEmployeeId(),
+                                    record.getDate(), record.getCheckOutTime()))
+                            .toList());
+                }
+                pending.clear();
+                journal.deleteClosedSegments();
+            }
+            refreshSummaries(records);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Writing {} attendance events failed, retrying in {}", pending.size(), flushInterval, e);
+        }
+    }
+
+    private void refreshSummaries(Collection<Attendance> records) {
+        try {
+            attendanceSummaryService.refresh(records);
+        } catch (RuntimeException e) {
+            log.warn("Could not update attendance summaries for {} employee-days; rebuild those months",
+                    records.size(), e);
+        }
+    }
+
+    private Collection<Attendance> coalesce(List<AttendanceEvent> events) {
+        Map<EmployeeDay, Attendance> records = new LinkedHashMap<>();
+        for (AttendanceEvent event : events) {
+            Attendance attendance = records.computeIfAbsent(new EmployeeDay(event.getEmployeeId(), event.getDate()), key -> {
+                Attendance record = new Attendance();
+                record.setEmployeeId(key.employeeId());
+                record.setDate(key.date());
+                return record;
+            });
+            if (event.getType() == AttendanceEvent.Type.CHECK_IN) {
+                attendance.setCheckInTime(event.getTime());
+            } else {
+                attendance.setCheckOutTime(event.getTime());
+            }
+        }
+        return records.values();
+    }
+
+    private record EmployeeDay(Long employeeId, LocalDate date) {
+    }
+}
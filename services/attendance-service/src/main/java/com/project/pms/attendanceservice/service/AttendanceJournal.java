@@ -0,0 +1,137 @@
+package com.project.pms.attendanceservice.service;
+
+import com.project.pms.attendanceservice.dto.AttendanceEvent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only log of accepted attendance events, split into numbered segment
+ * files. Events are written here before they are acknowledged, and a segment is
+ * deleted only after everything in it has reached the database, so a crash in
+ * between replays the segment on the next start. Check-outs that matched no
+ * check-in are moved to {@code unmatched.log}, which is neither replayed nor
+ * deleted, so they can be inspected and sent again.
+ * <p>
+ * A plain write survives a process crash; set {@code fsync} to also survive
+ * power loss at the cost of a disk flush per event. Not thread-safe, callers
+ * serialize access.
+ */
+class AttendanceJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceJournal.class);
+
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+    private static final String UNMATCHED = "unmatched.log";
+
+    private final Path directory;
+    private final boolean fsync;
+
+    private FileChannel channel;
+    private long segment;
+
+    AttendanceJournal(Path directory, boolean fsync) {
+        this.directory = directory;
+        this.fsync = fsync;
+    }
+
+    List<AttendanceEvent> open() throws IOException {
+        Files.createDirectories(directory);
+        List<AttendanceEvent> events = new ArrayList<>();
+        for (Path file : segments()) {
+            segment = Math.max(segment, segmentNumber(file));
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                AttendanceEvent event = parse(line);
+                if (event != null) {
+                    events.add(event);
+                }
+            }
+        }
+        openNextSegment();
+        return events;
+    }
+
+    void append(AttendanceEvent event) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(format(event).getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    void appendUnmatched(List<AttendanceEvent> events) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (AttendanceEvent event : events) {
+            lines.append(format(event));
+        }
+        Files.writeString(directory.resolve(UNMATCHED), lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    void rotate() throws IOException {
+        channel.close();
+        openNextSegment();
+    }
+
+    void deleteClosedSegments() throws IOException {
+        for (Path file : segments()) {
+            if (segmentNumber(file) < segment) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        segment++;
+        Path file = directory.resolve(String.format("%s%012d%s", PREFIX, segment, SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(PREFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static String format(AttendanceEvent event) {
+        return event.getType() + "," + event.getEmployeeId() + "," + event.getDate() + "," + event.getTime() + "\n";
+    }
+
+    private static AttendanceEvent parse(String line) {
+        String[] fields = line.split(",");
+        try {
+            return new AttendanceEvent(AttendanceEvent.Type.valueOf(fields[0]), Long.valueOf(fields[1]),
+                    LocalDate.parse(fields[2]), LocalTime.parse(fields[3]));
+        } catch (RuntimeException e) {
+            log.warn("Skipping unreadable attendance journal entry '{}'", line);
+            return null;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.project.pms.attendanceservice.service;
 
+import com.project.pms.attendanceservice.dto.AttendanceDays;
 import com.project.pms.attendanceservice.entity.Attendance;
+import com.project.pms.attendanceservice.repository.AttendanceDaysRepository;
 import com.project.pms.attendanceservice.repository.AttendanceRepository;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -12,9 +18,20 @@ import org.springframework.stereotype.Service;
 @Service
 public class AttendanceService {
 
+    private static final Logger log = LoggerFactory.getLogger(AttendanceService.class);
+
     @Autowired
     private AttendanceRepository attendanceRepository;
 
+    @Autowired
+    private AttendanceDaysRepository attendanceDaysRepository;
+
+    @Autowired
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Autowired
+    private AttendanceArchiveService attendanceArchiveService;
+
     public Attendance checkIn(Long employeeId) {
         LocalDate today = LocalDate.now();
         Attendance attendance = attendanceRepository.findByEmployeeIdAndDate(employeeId, today)
@@ -23,7 +40,7 @@ public class AttendanceService {
         attendance.setEmployeeId(employeeId);
         attendance.setDate(today);
         attendance.setCheckInTime(LocalTime.now());
-        return attendanceRepository.save(attendance);
+        return refreshSummary(attendanceRepository.save(attendance));
     }
 
     public Attendance checkOut(Long employeeId) {
@@ -31,10 +48,37 @@ public class AttendanceService {
         Attendance attendance = attendanceRepository.findByEmployeeIdAndDate(employeeId, today)
                 .orElseThrow(() -> new RuntimeException("Check-in record not found for today"));
         attendance.setCheckOutTime(LocalTime.now());
-        return attendanceRepository.save(attendance);
+        return refreshSummary(attendanceRepository.save(attendance));
+    }
+
+    private Attendance refreshSummary(Attendance attendance) {
+        try {
+            attendanceSummaryService.refresh(List.of(attendance));
+        } catch (RuntimeException e) {
+            log.warn("Could not update the attendance summary of employee {} for {}; rebuild that month",
+                    attendance.getEmployeeId(), attendance.getDate(), e);
+        }
+        return attendance;
     }
 
     public List<Attendance> getAttendanceForEmployee(Long employeeId) {
         return attendanceRepository.findByEmployeeId(employeeId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Attendance of one employee between {@code from} and {@code to}, read through
+     * uk_attendance_employee_date, plus the archived part of the range when {@code archived}.
+     */
+    public List<Attendance> getAttendanceForEmployee(Long employeeId, LocalDate from, LocalDate to, boolean archived) {
+        List<Attendance> attendance = new ArrayList<>();
+        if (archived) {
+            attendance.addAll(attendanceArchiveService.findArchived(employeeId, from, to));
+        }
+        attendance.addAll(attendanceRepository.findByEmployeeIdAndDateBetweenOrderByDate(employeeId, from, to));
+        return attendance;
+    }
+
+    public List<AttendanceDays> getAttendanceDays(YearMonth month, Long employeeId) {
+        return attendanceDaysRepository.findMonth(month, employeeId);
+    }
+}
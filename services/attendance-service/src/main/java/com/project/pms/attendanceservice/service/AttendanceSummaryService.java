@@ -0,0 +1,273 @@
+package com.project.pms.attendanceservice.service;
+
+import com.project.pms.attendanceservice.client.EmployeeClient;
+import com.project.pms.attendanceservice.dto.ArchiveSegment;
+import com.project.pms.attendanceservice.dto.AttendanceStats;
+import com.project.pms.attendanceservice.entity.Attendance;
+import com.project.pms.attendanceservice.entity.AttendanceSummary;
+import com.project.pms.attendanceservice.repository.AttendanceArchiveRepository;
+import com.project.pms.attendanceservice.repository.AttendanceRepository;
+import com.project.pms.attendanceservice.repository.AttendanceSummaryRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the per-employee monthly rollups in {@code attendance_summaries}. Whenever
+ * attendance rows change, the affected employee-months are recomputed from their (at
+ * most 31) rows, so a summary read costs one row per month instead of one per day.
+ */
+@Service
+public class AttendanceSummaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceSummaryService.class);
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceSummaryRepository attendanceSummaryRepository;
+
+    @Autowired
+    private AttendanceArchiveRepository attendanceArchiveRepository;
+
+    @Autowired
+    private EmployeeClient employeeClient;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Value("${attendance.summary.late-after:09:30}")
+    private LocalTime lateAfter;
+
+    /**
+     * Recomputes the months touched by {@code changed}. Only the employee and date of each
+     * record are used, so records that were written through JDBC work as well.
+     */
+    @Transactional
+    public void refresh(Collection<Attendance> changed) {
+        Map<YearMonth, Set<Long>> employeesByMonth = new TreeMap<>();
+        for (Attendance attendance : changed) {
+            employeesByMonth.computeIfAbsent(YearMonth.from(attendance.getDate()), month -> new HashSet<>())
+                    .add(attendance.getEmployeeId());
+        }
+        employeesByMonth.forEach((month, employeeIds) -> save(month, employeeIds,
+                attendanceRepository.findByEmployeeIdInAndDateBetween(employeeIds, month.atDay(1), month.atEndOfMonth())));
+    }
+
+    /**
+     * Recomputes every employee's summaries for {@code from} to {@code to}, e.g. to backfill
+     * months recorded before summaries existed. Returns the number of summaries written.
+     */
+    public int rebuild(YearMonth from, YearMonth to) {
+        int written = 0;
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            List<Attendance> rows = attendanceRepository.findByDateBetween(month.atDay(1), month.atEndOfMonth());
+            Set<Long> employeeIds = rows.stream().map(Attendance::getEmployeeId).collect(Collectors.toSet());
+            if (!employeeIds.isEmpty()) {
+                written += save(month, employeeIds, rows);
+            }
+        }
+        return written;
+    }
+
+    public List<AttendanceSummary> getSummaries(Long employeeId, YearMonth from, YearMonth to) {
+        return attendanceSummaryRepository.findByEmployeeIdAndMonthStartBetweenOrderByMonthStart(
+                employeeId, from.atDay(1), to.atDay(1));
+    }
+
+    public List<AttendanceSummary> getSummaries(YearMonth from, YearMonth to) {
+        return attendanceSummaryRepository.findByMonthStartBetweenOrderByEmployeeIdAscMonthStartAsc(
+                from.atDay(1), to.atDay(1));
+    }
+
+    /**
+     * Attendance totals over {@code from} to {@code to} for one employee, or for every employee
+     * known to employee-service when {@code employeeId} is null, with arrivals after
+     * {@code lateAfter} counted as late. Reads one summary row per employee-month and works on
+     * its bitmap and packed times, so it never loads attendance rows. Times are compared to the
+     * minute. Working days are the weekdays of the range up to today, so a month without any
+     * attendance counts all its working days as absences.
+     */
+    public List<AttendanceStats> getStats(Long employeeId, YearMonth from, YearMonth to, LocalTime lateAfter) {
+        List<AttendanceSummary> summaries = employeeId != null
+                ? getSummaries(employeeId, from, to)
+                : getSummaries(from, to);
+        Map<YearMonth, Long> workingDays = workingDays(from, to, LocalDate.now());
+        int workingDayCount = workingDays.values().stream().mapToInt(Long::bitCount).sum();
+        int lateMinute = lateAfter.getHour() * 60 + lateAfter.getMinute();
+
+        Map<Long, AttendanceStats> stats = new TreeMap<>();
+        Function<Long, AttendanceStats> seed = id -> {
+            AttendanceStats employee = new AttendanceStats();
+            employee.setEmployeeId(id);
+            employee.setFrom(from);
+            employee.setTo(to);
+            employee.setWorkingDays(workingDayCount);
+            employee.setAbsences(workingDayCount);
+            return employee;
+        };
+        for (Long id : employeeId != null ? List.of(employeeId) : employeeClient.getEmployeeIds()) {
+            stats.put(id, seed.apply(id));
+        }
+        for (AttendanceSummary summary : summaries) {
+            accumulate(stats.computeIfAbsent(summary.getEmployeeId(), seed), summary,
+                    workingDays.getOrDefault(YearMonth.from(summary.getMonthStart()), 0L), lateMinute);
+        }
+        return new ArrayList<>(stats.values());
+    }
+
+    /** Weekday bitmap of each month from {@code from} to {@code to}, without the days after {@code today}. */
+    static Map<YearMonth, Long> workingDays(YearMonth from, YearMonth to, LocalDate today) {
+        YearMonth current = YearMonth.from(today);
+        Map<YearMonth, Long> workingDays = new TreeMap<>();
+        for (YearMonth month = from; !month.isAfter(to) && !month.isAfter(current); month = month.plusMonths(1)) {
+            long days = CompactAttendance.weekdays(month);
+            workingDays.put(month, month.equals(current) ? days & -1L >>> (64 - today.getDayOfMonth()) : days);
+        }
+        return workingDays;
+    }
+
+    private static void accumulate(AttendanceStats stats, AttendanceSummary summary, long workingDays, int lateMinute) {
+        byte[] times = summary.getCheckTimes();
+        if (times == null) {
+            // Written before compact summaries existed and not rebuilt since, e.g. because the
+            // month was archived first: which days were present is unknown, so the month's
+            // absences are not counted and the month is reported as unknown.
+            stats.setDaysPresent(stats.getDaysPresent() + summary.getDaysPresent());
+            stats.setTotalMinutes(stats.getTotalMinutes() + summary.getTotalMinutes());
+            stats.setLateArrivals(stats.getLateArrivals() + summary.getLateArrivals());
+            stats.setMissingCheckouts(stats.getMissingCheckouts() + summary.getMissingCheckouts());
+            stats.setAbsences(stats.getAbsences() - Long.bitCount(workingDays));
+            stats.setUnknownMonths(stats.getUnknownMonths() + 1);
+            return;
+        }
+        long present = summary.getPresentDays();
+        stats.setDaysPresent(stats.getDaysPresent() + Long.bitCount(present));
+        stats.setAbsences(stats.getAbsences() - Long.bitCount(workingDays & present));
+
+        for (long days = present; days != 0; days &= days - 1) {
+            int day = Long.numberOfTrailingZeros(days) + 1;
+            int checkIn = CompactAttendance.checkIn(times, day);
+            int checkOut = CompactAttendance.checkOut(times, day);
+            if (checkIn > lateMinute) {
+                stats.setLateArrivals(stats.getLateArrivals() + 1);
+            }
+            if (checkOut == CompactAttendance.NO_TIME) {
+                stats.setMissingCheckouts(stats.getMissingCheckouts() + 1);
+            } else {
+                stats.setTotalMinutes(stats.getTotalMinutes() + Math.max(0, checkOut - checkIn));
+            }
+        }
+    }
+
+    /**
+     * Starts {@link #backfillCompactSummaries()} on {@code applicationTaskExecutor} once the
+     * service is ready, so startup does not wait for the rebuild.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void backfillCompactSummariesWhenReady() {
+        applicationTaskExecutor.execute(() -> {
+            try {
+                backfillCompactSummaries();
+            } catch (RuntimeException e) {
+                log.warn("Backfill of compact attendance summaries failed; it is retried on the next start", e);
+            }
+        });
+    }
+
+    /**
+     * Rebuilds the months that still have summaries written before the compact columns were
+     * added, so their bitmaps and packed times are filled in. Archived months are skipped: their
+     * rows are gone, so they keep their old summaries and show up in stats as unknown.
+     */
+    void backfillCompactSummaries() {
+        Set<YearMonth> archived = attendanceArchiveRepository.findSegments().stream()
+                .map(ArchiveSegment::getMonth)
+                .collect(Collectors.toSet());
+        for (LocalDate monthStart : attendanceSummaryRepository.findMonthsWithoutCheckTimes()) {
+            YearMonth month = YearMonth.from(monthStart);
+            if (archived.contains(month)) {
+                continue;
+            }
+            log.info("Rebuilt {} attendance summaries of {} written before compact summaries", rebuild(month, month), month);
+        }
+    }
+
+    public LocalTime getLateAfter() {
+        return lateAfter;
+    }
+
+    private int save(YearMonth month, Set<Long> employeeIds, List<Attendance> rows) {
+        LocalDate monthStart = month.atDay(1);
+        Map<Long, AttendanceSummary> existing = attendanceSummaryRepository
+                .findByEmployeeIdInAndMonthStart(employeeIds, monthStart).stream()
+                .collect(Collectors.toMap(AttendanceSummary::getEmployeeId, Function.identity()));
+        Map<Long, List<Attendance>> rowsByEmployee = rows.stream()
+                .collect(Collectors.groupingBy(Attendance::getEmployeeId));
+
+        List<AttendanceSummary> summaries = new ArrayList<>(employeeIds.size());
+        for (Long employeeId : employeeIds) {
+            AttendanceSummary summary = existing.get(employeeId);
+            if (summary == null) {
+                summary = new AttendanceSummary();
+                summary.setEmployeeId(employeeId);
+                summary.setMonthStart(monthStart);
+            }
+            summarize(summary, rowsByEmployee.getOrDefault(employeeId, List.of()));
+            summaries.add(summary);
+        }
+        attendanceSummaryRepository.saveAll(summaries);
+        return summaries.size();
+    }
+
+    private void summarize(AttendanceSummary summary, List<Attendance> days) {
+        int daysPresent = 0;
+        long totalMinutes = 0;
+        int lateArrivals = 0;
+        int missingCheckouts = 0;
+        for (Attendance day : days) {
+            if (day.getCheckInTime() == null) {
+                continue;
+            }
+            daysPresent++;
+            // Compared to the minute, like the packed times that stats are computed from.
+            LocalTime checkIn = day.getCheckInTime().truncatedTo(ChronoUnit.MINUTES);
+            if (checkIn.isAfter(lateAfter.truncatedTo(ChronoUnit.MINUTES))) {
+                lateArrivals++;
+            }
+            if (day.getCheckOutTime() == null) {
+                missingCheckouts++;
+            } else {
+                LocalTime checkOut = day.getCheckOutTime().truncatedTo(ChronoUnit.MINUTES);
+                totalMinutes += Math.max(0, Duration.between(checkIn, checkOut).toMinutes());
+            }
+        }
+        summary.setDaysPresent(daysPresent);
+        summary.setTotalMinutes(totalMinutes);
+        summary.setLateArrivals(lateArrivals);
+        summary.setMissingCheckouts(missingCheckouts);
+        summary.setPresentDays(CompactAttendance.presence(days));
+        summary.setCheckTimes(CompactAttendance.times(days));
+    }
+}
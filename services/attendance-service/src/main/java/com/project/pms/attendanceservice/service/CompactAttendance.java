@@ -0,0 +1,83 @@
+package com.project.pms.attendanceservice.service;
+
+import com.project.pms.attendanceservice.entity.Attendance;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Packs one employee-month of attendance rows into the compact form kept on
+ * {@code attendance_summaries}: a presence bitmap (bit {@code d - 1} is day {@code d}) and
+ * {@link #TIMES_LENGTH} bytes holding, per day, the check-in and check-out minute of the day as
+ * big-endian unsigned shorts, {@link #NO_TIME} when missing.
+ */
+public final class CompactAttendance {
+
+    public static final int TIMES_LENGTH = 31 * 4;
+
+    static final int NO_TIME = 0xFFFF;
+
+    private CompactAttendance() {
+    }
+
+    public static long presence(List<Attendance> days) {
+        long bits = 0L;
+        for (Attendance day : days) {
+            if (day.getCheckInTime() != null) {
+                bits |= 1L << (day.getDate().getDayOfMonth() - 1);
+            }
+        }
+        return bits;
+    }
+
+    public static byte[] times(List<Attendance> days) {
+        byte[] times = new byte[TIMES_LENGTH];
+        for (int day = 1; day <= 31; day++) {
+            put(times, day, 0, NO_TIME);
+            put(times, day, 2, NO_TIME);
+        }
+        for (Attendance day : days) {
+            put(times, day.getDate().getDayOfMonth(), 0, minute(day.getCheckInTime()));
+            put(times, day.getDate().getDayOfMonth(), 2, minute(day.getCheckOutTime()));
+        }
+        return times;
+    }
+
+    /** Minute of the day of the check-in on {@code day}, or {@link #NO_TIME}. */
+    public static int checkIn(byte[] times, int day) {
+        return get(times, day, 0);
+    }
+
+    /** Minute of the day of the check-out on {@code day}, or {@link #NO_TIME}. */
+    public static int checkOut(byte[] times, int day) {
+        return get(times, day, 2);
+    }
+
+    /** Monday to Friday of {@code month}, as a day bitmap. */
+    public static long weekdays(YearMonth month) {
+        long bits = 0L;
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            DayOfWeek dayOfWeek = month.atDay(day).getDayOfWeek();
+            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
+                bits |= 1L << (day - 1);
+            }
+        }
+        return bits;
+    }
+
+    private static int minute(LocalTime time) {
+        return time != null ? time.getHour() * 60 + time.getMinute() : NO_TIME;
+    }
+
+    private static void put(byte[] times, int day, int offset, int value) {
+        int index = (day - 1) * 4 + offset;
+        times[index] = (byte) (value >>> 8);
+        times[index + 1] = (byte) value;
+    }
+
+    private static int get(byte[] times, int day, int offset) {
+        int index = (day - 1) * 4 + offset;
+        return (times[index] & 0xFF) << 8 | times[index + 1] & 0xFF;
+    }
+}
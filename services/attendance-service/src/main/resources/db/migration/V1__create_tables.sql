@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS attendance (
+    attendance_id BIGINT NOT NULL AUTO_INCREMENT,
+    employee_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    check_in_time TIME(6),
+    check_out_time TIME(6),
+    PRIMARY KEY (attendance_id)
+) ENGINE = InnoDB;
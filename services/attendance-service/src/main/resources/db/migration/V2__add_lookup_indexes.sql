@@ -0,0 +1,12 @@
+-- one row per employee and day; keep the first row where older data has duplicates
+DELETE FROM attendance
+WHERE attendance_id NOT IN (
+    SELECT keep_id FROM (
+        SELECT MIN(attendance_id) AS keep_id FROM attendance GROUP BY employee_id, date
+    ) AS keepers
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_attendance_employee_date ON attendance (employee_id, date);
+
+-- same key under the name Hibernate generated while the schema was managed by ddl-auto
+DROP INDEX IF EXISTS UKlhifqtmo516yodil1fn0n7fur ON attendance;
@@ -0,0 +1,11 @@
+-- Ids for attendance come from a pooled table generator (allocationSize 50 on the entity) instead of
+-- AUTO_INCREMENT, so Hibernate can batch inserts. Under the pooled optimizer a row holding N means
+-- every id above N - 50 is free, so start one block above the current maximum.
+CREATE TABLE IF NOT EXISTS id_generators (
+    gen_name VARCHAR(64) NOT NULL,
+    next_val BIGINT NOT NULL,
+    PRIMARY KEY (gen_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_generators (gen_name, next_val)
+SELECT 'attendance', COALESCE(MAX(attendance_id), 0) + 50 FROM attendance;
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS attendance_summaries (
+    summary_id BIGINT NOT NULL,
+    employee_id BIGINT NOT NULL,
+    month_start DATE NOT NULL,
+    days_present INT NOT NULL,
+    total_minutes BIGINT NOT NULL,
+    late_arrivals INT NOT NULL,
+    missing_checkouts INT NOT NULL,
+    PRIMARY KEY (summary_id),
+    CONSTRAINT uk_attendance_summaries_employee_month UNIQUE (employee_id, month_start)
+) ENGINE = InnoDB;
+
+CREATE INDEX IF NOT EXISTS idx_attendance_summaries_month ON attendance_summaries (month_start);
+
+INSERT INTO id_generators (gen_name, next_val) VALUES ('attendance_summaries', 50);
@@ -0,0 +1,2 @@
+-- Month-wide presence reads for payroll scan one date range across all employees.
+CREATE INDEX IF NOT EXISTS idx_attendance_date ON attendance (date, employee_id);
@@ -0,0 +1,4 @@
+-- Compact copy of each employee-month on its summary: a presence bitmap and the check-in and
+-- check-out minute of every day packed into 124 bytes. Existing summaries get them on rebuild.
+ALTER TABLE attendance_summaries ADD COLUMN IF NOT EXISTS present_days BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE attendance_summaries ADD COLUMN IF NOT EXISTS check_times VARBINARY(124) NULL;
@@ -0,0 +1,9 @@
+-- Catalog of attendance months moved out of the attendance table into compressed files under
+-- attendance.archive.dir. A month is listed here in the same transaction that deletes its rows.
+CREATE TABLE IF NOT EXISTS attendance_archive_segments (
+    month_start DATE NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    row_count BIGINT NOT NULL,
+    archived_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (month_start)
+) ENGINE = InnoDB;
@@ -0,0 +1,47 @@
+package com.project.pms.attendanceservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.pms.attendanceservice.dto.AttendanceDays;
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:attendance_days;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AttendanceDaysRepository.class)
+class AttendanceDaysRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AttendanceDaysRepository attendanceDaysRepository;
+
+    @Test
+    void foldsAMonthIntoOneDayBitsetPerEmployee() {
+        insert(2, "2024-05-31");
+        insert(1, "2024-05-01");
+        insert(1, "2024-05-03");
+        insert(1, "2024-06-01");
+        insert(2, "2024-04-30");
+
+        assertThat(attendanceDaysRepository.findMonth(YearMonth.of(2024, 5), null)).containsExactly(
+                new AttendanceDays(1L, 0b101L), new AttendanceDays(2L, 1L << 30));
+        assertThat(attendanceDaysRepository.findMonth(YearMonth.of(2024, 5), 2L)).containsExactly(
+                new AttendanceDays(2L, 1L << 30));
+    }
+
+    private void insert(long employeeId, String date) {
+        jdbcTemplate.update("INSERT INTO attendance (employee_id, date, check_in_time) VALUES (?, ?, TIME '09:00:00')",
+                employeeId, java.sql.Date.valueOf(date));
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.pms.attendanceservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:attendance;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AttendanceRepositoryIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findByEmployeeIdAndDateUsesUniqueEmployeeDateIndex() {
+        assertThat(explain("SELECT * FROM attendance WHERE employee_id = 42 AND date = DATE '2024-01-31'"))
+                .containsIgnoringCase("uk_attendance_employee_date");
+    }
+
+    @Test
+    void findByEmployeeIdUsesEmployeeDateIndexPrefix() {
+        assertThat(explain("SELECT * FROM attendance WHERE employee_id = 42"))
+                .containsIgnoringCase("uk_attendance_employee_date");
+    }
+
+    @Test
+    void monthAcrossEmployeesUsesDateIndex() {
+        assertThat(explain("SELECT employee_id, date FROM attendance"
+                + " WHERE date BETWEEN DATE '2024-05-01' AND DATE '2024-05-31'"))
+                .containsIgnoringCase("idx_attendance_date");
+    }
+
+    @Test
+    void rejectsSecondRowForSameEmployeeDay() {
+        String insert = "INSERT INTO attendance (employee_id, date, check_in_time) VALUES (42, DATE '2024-01-31', TIME '09:00:00')";
+        jdbcTemplate.update(insert);
+        assertThatThrownBy(() -> jdbcTemplate.update(insert)).isInstanceOf(DuplicateKeyException.class);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
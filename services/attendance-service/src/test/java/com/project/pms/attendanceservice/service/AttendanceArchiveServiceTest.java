@@ -0,0 +1,95 @@
+package com.project.pms.attendanceservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import com.project.pms.attendanceservice.dto.ArchiveSegment;
+import com.project.pms.attendanceservice.entity.Attendance;
+import com.project.pms.attendanceservice.repository.AttendanceArchiveRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:attendance_archive;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AttendanceArchiveService.class, AttendanceArchiveRepository.class})
+class AttendanceArchiveServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AttendanceArchiveService attendanceArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(attendanceArchiveService, "directory", directory);
+    }
+
+    @Test
+    void archivedMonthLeavesTheTableAndStaysReadable() {
+        insert(1, "2022-03-01", "09:00:00.250", "17:00:00");
+        insert(1, "2022-03-31", "09:15:00", null);
+        insert(2, "2022-03-02", "10:00:00", "18:00:00");
+        insert(1, "2022-04-01", "09:00:00", "17:00:00");
+
+        ArchiveSegment segment = attendanceArchiveService.archiveMonth(YearMonth.of(2022, 3));
+
+        assertThat(segment.getRowCount()).isEqualTo(3);
+        assertThat(Files.exists(directory.resolve("attendance-2022-03.csv.gz"))).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT date FROM attendance", java.sql.Date.class))
+                .containsExactly(java.sql.Date.valueOf("2022-04-01"));
+        assertThat(attendanceArchiveService.getSegments())
+                .extracting(ArchiveSegment::getMonth, ArchiveSegment::getRowCount)
+                .containsExactly(tuple(YearMonth.of(2022, 3), 3L));
+
+        assertThat(attendanceArchiveService.findArchived(1L, LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)))
+                .extracting(Attendance::getDate, Attendance::getCheckInTime, Attendance::getCheckOutTime)
+                .containsExactly(
+                        tuple(LocalDate.of(2022, 3, 1), LocalTime.of(9, 0, 0, 250_000_000), LocalTime.of(17, 0)),
+                        tuple(LocalDate.of(2022, 3, 31), LocalTime.of(9, 15), null));
+        assertThat(attendanceArchiveService.findArchived(1L, LocalDate.of(2022, 4, 1), LocalDate.of(2022, 12, 31)))
+                .isEmpty();
+
+        assertThatThrownBy(() -> attendanceArchiveService.archiveMonth(YearMonth.of(2022, 3)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void coldMonthsAreArchivedOldestFirstAndRecentOnesKept() {
+        LocalDate recent = LocalDate.now().withDayOfMonth(1);
+        insert(1, "2020-01-15", "09:00:00", null);
+        insert(1, "2021-06-15", "09:00:00", null);
+        insert(1, recent.toString(), "09:00:00", null);
+
+        assertThat(attendanceArchiveService.archiveColdMonths())
+                .extracting(ArchiveSegment::getMonth)
+                .containsExactly(YearMonth.of(2020, 1), YearMonth.of(2021, 6));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance", Long.class)).isEqualTo(1);
+    }
+
+    private void insert(long employeeId, String date, String checkIn, String checkOut) {
+        jdbcTemplate.update("INSERT INTO attendance (employee_id, date, check_in_time, check_out_time) VALUES (?, ?, ?, ?)",
+                employeeId, java.sql.Date.valueOf(date), LocalTime.parse(checkIn),
+                checkOut != null ? LocalTime.parse(checkOut) : null);
+    }
+}
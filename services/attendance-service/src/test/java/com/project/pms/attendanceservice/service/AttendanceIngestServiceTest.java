@@ -0,0 +1,139 @@
+package com.project.pms.attendanceservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.project.pms.attendanceservice.dto.AttendanceEvent;
+import com.project.pms.attendanceservice.entity.Attendance;
+import com.project.pms.attendanceservice.repository.AttendanceBatchRepository;
+import com.project.pms.attendanceservice.repository.IdGeneratorRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:attendance_ingest;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AttendanceIngestService.class, AttendanceBatchRepository.class, IdGeneratorRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AttendanceIngestServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+
+    @TempDir
+    Path journalDir;
+
+    @Autowired
+    private AttendanceIngestService attendanceIngestService;
+
+    @SpyBean
+    private AttendanceBatchRepository attendanceBatchRepository;
+
+    @MockBean
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM attendance");
+        ReflectionTestUtils.setField(attendanceIngestService, "enabled", true);
+        ReflectionTestUtils.setField(attendanceIngestService, "journalDir", journalDir);
+        ReflectionTestUtils.setField(attendanceIngestService, "flushInterval", Duration.ofHours(1));
+    }
+
+    @Test
+    void eventsLeftInTheJournalByACrashAreReplayedAndCoalesced() throws Exception {
+        crashWith(new AttendanceEvent(AttendanceEvent.Type.CHECK_IN, 1L, DAY, LocalTime.of(9, 0)),
+                new AttendanceEvent(AttendanceEvent.Type.CHECK_IN, 2L, DAY, LocalTime.of(9, 5)),
+                new AttendanceEvent(AttendanceEvent.Type.CHECK_OUT, 1L, DAY, LocalTime.of(17, 0)));
+
+        attendanceIngestService.start();
+        attendanceIngestService.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Attendance>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(attendanceBatchRepository).upsertAll(batch.capture());
+        assertThat(batch.getValue())
+                .extracting(Attendance::getEmployeeId, Attendance::getCheckInTime, Attendance::getCheckOutTime)
+                .containsExactly(tuple(1L, LocalTime.of(9, 0), LocalTime.of(17, 0)),
+                        tuple(2L, LocalTime.of(9, 5), null));
+        assertThat(jdbcTemplate.queryForList("SELECT employee_id FROM attendance ORDER BY employee_id", Long.class))
+                .containsExactly(1L, 2L);
+        assertThat(new AttendanceJournal(journalDir, false).open()).isEmpty();
+    }
+
+    @Test
+    void failedBatchIsRetriedAndKeptInTheJournalUntilItSucceeds() throws Exception {
+        crashWith(new AttendanceEvent(AttendanceEvent.Type.CHECK_IN, 3L, DAY, LocalTime.of(9, 0)));
+        doThrow(new TransientDataAccessResourceException("database down"))
+                .doCallRealMethod()
+                .when(attendanceBatchRepository).upsertAll(any());
+
+        attendanceIngestService.start();
+        verify(attendanceBatchRepository, timeout(5000)).upsertAll(any());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance", Long.class)).isZero();
+        try (Stream<Path> files = Files.list(journalDir)) {
+            assertThat(files.filter(file -> file.toFile().length() > 0)).hasSize(1);
+        }
+
+        attendanceIngestService.stop();
+
+        verify(attendanceBatchRepository, times(2)).upsertAll(any());
+        assertThat(jdbcTemplate.queryForList("SELECT employee_id FROM attendance", Long.class)).containsExactly(3L);
+        assertThat(new AttendanceJournal(journalDir, false).open()).isEmpty();
+    }
+
+    @Test
+    void checkOutWithoutCheckInIsKeptAsUnmatched() throws Exception {
+        crashWith(new AttendanceEvent(AttendanceEvent.Type.CHECK_OUT, 4L, DAY, LocalTime.of(17, 0)));
+
+        attendanceIngestService.start();
+        attendanceIngestService.stop();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance", Long.class)).isZero();
+        assertThat(Files.readAllLines(journalDir.resolve("unmatched.log")))
+                .containsExactly("CHECK_OUT,4,2024-03-04,17:00");
+        assertThat(new AttendanceJournal(journalDir, false).open()).isEmpty();
+    }
+
+    /** Journals {@code events} and stops without writing them, as a crash would. */
+    private void crashWith(AttendanceEvent... events) throws IOException {
+        AttendanceJournal journal = new AttendanceJournal(journalDir, false);
+        journal.open();
+        for (AttendanceEvent event : List.of(events)) {
+            journal.append(event);
+        }
+        journal.close();
+    }
+}
@@ -0,0 +1,207 @@
+package com.project.pms.attendanceservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.Mockito.when;
+
+import com.project.pms.attendanceservice.client.EmployeeClient;
+import com.project.pms.attendanceservice.dto.AttendanceStats;
+import com.project.pms.attendanceservice.entity.Attendance;
+import com.project.pms.attendanceservice.entity.AttendanceSummary;
+import com.project.pms.attendanceservice.repository.AttendanceArchiveRepository;
+import com.project.pms.attendanceservice.repository.AttendanceRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:attendance_summaries;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AttendanceSummaryService.class, AttendanceArchiveRepository.class})
+class AttendanceSummaryServiceTest {
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private EmployeeClient employeeClient;
+
+    @MockBean
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void refreshRollsUpTheChangedMonth() {
+        Attendance monday = save(1L, LocalDate.of(2024, 3, 4), LocalTime.of(9, 0), LocalTime.of(17, 30));
+        Attendance tuesday = save(1L, LocalDate.of(2024, 3, 5), LocalTime.of(9, 45), LocalTime.of(18, 0));
+        Attendance wednesday = save(1L, LocalDate.of(2024, 3, 6), LocalTime.of(8, 55), null);
+        attendanceSummaryService.refresh(List.of(monday, tuesday, wednesday));
+
+        AttendanceSummary march = single(1L, YearMonth.of(2024, 3));
+        assertThat(march.getDaysPresent()).isEqualTo(3);
+        assertThat(march.getTotalMinutes()).isEqualTo(510 + 495);
+        assertThat(march.getLateArrivals()).isEqualTo(1);
+        assertThat(march.getMissingCheckouts()).isEqualTo(1);
+
+        wednesday.setCheckOutTime(LocalTime.of(17, 0));
+        attendanceSummaryService.refresh(List.of(attendanceRepository.save(wednesday)));
+
+        march = single(1L, YearMonth.of(2024, 3));
+        assertThat(march.getTotalMinutes()).isEqualTo(510 + 495 + 485);
+        assertThat(march.getMissingCheckouts()).isZero();
+    }
+
+    @Test
+    void rebuildBackfillsEveryEmployeeAndMonthInRange() {
+        save(1L, LocalDate.of(2024, 1, 31), LocalTime.of(9, 0), LocalTime.of(10, 0));
+        save(1L, LocalDate.of(2024, 2, 1), LocalTime.of(9, 0), LocalTime.of(11, 0));
+        save(2L, LocalDate.of(2024, 2, 1), LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        assertThat(attendanceSummaryService.rebuild(YearMonth.of(2024, 1), YearMonth.of(2024, 2))).isEqualTo(3);
+
+        assertThat(attendanceSummaryService.getSummaries(1L, YearMonth.of(2024, 1), YearMonth.of(2024, 12)))
+                .extracting(AttendanceSummary::getTotalMinutes)
+                .containsExactly(60L, 120L);
+        assertThat(attendanceSummaryService.getSummaries(YearMonth.of(2024, 2), YearMonth.of(2024, 2)))
+                .extracting(AttendanceSummary::getEmployeeId, AttendanceSummary::getLateArrivals)
+                .containsExactly(tuple(1L, 0), tuple(2L, 1));
+    }
+
+    @Test
+    void statsComeFromTheBitmapAndPackedTimes() {
+        Attendance monday = save(1L, LocalDate.of(2024, 3, 4), LocalTime.of(9, 0), LocalTime.of(17, 30));
+        Attendance tuesday = save(1L, LocalDate.of(2024, 3, 5), LocalTime.of(9, 45), LocalTime.of(18, 0));
+        Attendance wednesday = save(1L, LocalDate.of(2024, 3, 6), LocalTime.of(8, 55), null);
+        Attendance april = save(1L, LocalDate.of(2024, 4, 1), LocalTime.of(9, 0), LocalTime.of(9, 30));
+        attendanceSummaryService.refresh(List.of(monday, tuesday, wednesday, april));
+
+        assertThat(single(1L, YearMonth.of(2024, 3)).getPresentDays()).isEqualTo(0b111000L);
+
+        // January to April 2024 have 23 + 21 + 21 + 22 weekdays, with or without attendance.
+        List<AttendanceStats> stats = attendanceSummaryService.getStats(1L, YearMonth.of(2024, 1),
+                YearMonth.of(2024, 4), LocalTime.of(9, 30));
+        assertThat(stats).singleElement().satisfies(employee -> {
+            assertThat(employee.getDaysPresent()).isEqualTo(4);
+            assertThat(employee.getWorkingDays()).isEqualTo(87);
+            assertThat(employee.getAbsences()).isEqualTo(83);
+            assertThat(employee.getTotalMinutes()).isEqualTo(510 + 495 + 30);
+            assertThat(employee.getLateArrivals()).isEqualTo(1);
+            assertThat(employee.getMissingCheckouts()).isEqualTo(1);
+            assertThat(employee.getUnknownMonths()).isZero();
+        });
+        when(employeeClient.getEmployeeIds()).thenReturn(List.of(1L));
+        assertThat(attendanceSummaryService.getStats(null, YearMonth.of(2024, 3), YearMonth.of(2024, 3),
+                LocalTime.of(8, 50)))
+                .extracting(AttendanceStats::getEmployeeId, AttendanceStats::getLateArrivals)
+                .containsExactly(tuple(1L, 3));
+    }
+
+    @Test
+    void summariesAndStatsCompareTimesToTheMinute() {
+        Attendance monday = save(1L, LocalDate.of(2024, 3, 4), LocalTime.of(9, 30, 30), LocalTime.of(10, 0, 10));
+        Attendance tuesday = save(1L, LocalDate.of(2024, 3, 5), LocalTime.of(9, 31), LocalTime.of(10, 30, 59));
+        attendanceSummaryService.refresh(List.of(monday, tuesday));
+
+        AttendanceSummary march = single(1L, YearMonth.of(2024, 3));
+        assertThat(march.getLateArrivals()).isEqualTo(1);
+        assertThat(march.getTotalMinutes()).isEqualTo(30 + 59);
+        assertThat(attendanceSummaryService.getStats(1L, YearMonth.of(2024, 3), YearMonth.of(2024, 3),
+                LocalTime.of(9, 30)))
+                .extracting(AttendanceStats::getLateArrivals, AttendanceStats::getTotalMinutes)
+                .containsExactly(tuple(march.getLateArrivals(), march.getTotalMinutes()));
+    }
+
+    @Test
+    void employeesWithoutAttendanceAreAbsentOnEveryWorkingDay() {
+        save(1L, LocalDate.of(2024, 3, 4), LocalTime.of(9, 0), LocalTime.of(17, 0));
+        attendanceSummaryService.rebuild(YearMonth.of(2024, 3), YearMonth.of(2024, 3));
+        when(employeeClient.getEmployeeIds()).thenReturn(List.of(1L, 2L));
+
+        assertThat(attendanceSummaryService.getStats(null, YearMonth.of(2024, 2), YearMonth.of(2024, 3),
+                LocalTime.of(9, 30)))
+                .extracting(AttendanceStats::getEmployeeId, AttendanceStats::getDaysPresent,
+                        AttendanceStats::getWorkingDays, AttendanceStats::getAbsences)
+                .containsExactly(tuple(1L, 1, 42, 41), tuple(2L, 0, 42, 42));
+        assertThat(attendanceSummaryService.getStats(3L, YearMonth.of(2024, 2), YearMonth.of(2024, 2),
+                LocalTime.of(9, 30)))
+                .extracting(AttendanceStats::getWorkingDays, AttendanceStats::getAbsences)
+                .containsExactly(tuple(21, 21));
+    }
+
+    @Test
+    void summariesWrittenBeforeCompactFormAreUnknownUntilBackfilled() {
+        save(1L, LocalDate.of(2024, 3, 4), LocalTime.of(9, 0), LocalTime.of(17, 0));
+        attendanceSummaryService.rebuild(YearMonth.of(2024, 3), YearMonth.of(2024, 3));
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE attendance_summaries SET present_days = 0, check_times = NULL");
+        entityManager.clear();
+
+        assertThat(attendanceSummaryService.getStats(1L, YearMonth.of(2024, 3), YearMonth.of(2024, 3),
+                LocalTime.of(9, 30)))
+                .extracting(AttendanceStats::getDaysPresent, AttendanceStats::getAbsences,
+                        AttendanceStats::getUnknownMonths)
+                .containsExactly(tuple(1, 0, 1));
+
+        attendanceSummaryService.backfillCompactSummaries();
+
+        assertThat(attendanceSummaryService.getStats(1L, YearMonth.of(2024, 3), YearMonth.of(2024, 3),
+                LocalTime.of(9, 30)))
+                .extracting(AttendanceStats::getDaysPresent, AttendanceStats::getAbsences,
+                        AttendanceStats::getUnknownMonths)
+                .containsExactly(tuple(1, 20, 0));
+    }
+
+    @Test
+    void backfillSkipsArchivedMonths() {
+        save(1L, LocalDate.of(2024, 3, 4), LocalTime.of(9, 0), LocalTime.of(17, 0));
+        attendanceSummaryService.rebuild(YearMonth.of(2024, 3), YearMonth.of(2024, 3));
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE attendance_summaries SET present_days = 0, check_times = NULL");
+        jdbcTemplate.update("INSERT INTO attendance_archive_segments (month_start, file_name, row_count, archived_at)"
+                + " VALUES (DATE '2024-03-01', 'attendance-2024-03.csv.gz', 1, CURRENT_TIMESTAMP)");
+        entityManager.clear();
+
+        attendanceSummaryService.backfillCompactSummaries();
+
+        assertThat(attendanceSummaryService.getStats(1L, YearMonth.of(2024, 3), YearMonth.of(2024, 3),
+                LocalTime.of(9, 30)))
+                .extracting(AttendanceStats::getUnknownMonths)
+                .containsExactly(1);
+    }
+
+    private AttendanceSummary single(Long employeeId, YearMonth month) {
+        List<AttendanceSummary> summaries = attendanceSummaryService.getSummaries(employeeId, month, month);
+        assertThat(summaries).hasSize(1);
+        return summaries.get(0);
+    }
+
+    private Attendance save(Long employeeId, LocalDate date, LocalTime checkIn, LocalTime checkOut) {
+        Attendance attendance = new Attendance();
+        attendance.setEmployeeId(employeeId);
+        attendance.setDate(date);
+        attendance.setCheckInTime(checkIn);
+        attendance.setCheckOutTime(checkOut);
+        return attendanceRepository.save(attendance);
+    }
+}
@@ -1,8 +1,15 @@
 package com.project.pms.departmentservice;
 
+import com.project.pms.departmentservice.service.AfterCommitExecutor;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.client.RestTemplate;
 
 @SpringBootApplication
 @EnableDiscoveryClient
@@ -12,4 +19,20 @@ public class DepartmentServiceApplication {
         SpringApplication.run(DepartmentServiceApplication.class, args);
     }
 
+    // Built from Boot's RestTemplateBuilder so the calls are observed (metrics and trace propagation).
+    @Bean
+    public RestTemplate restTemplate(ObjectProvider<RestTemplateBuilder> restTemplateBuilder,
+                                     @Value("${department.clients.connect-timeout:1s}") Duration connectTimeout,
+                                     @Value("${department.clients.read-timeout:2s}") Duration readTimeout) {
+        return restTemplateBuilder.getIfAvailable(RestTemplateBuilder::new)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+    }
+
+    @Bean
+    public AfterCommitExecutor payrollNotificationExecutor(
+            @Value("${department.notifications.queue-capacity:10000}") int queueCapacity) {
+        return new AfterCommitExecutor("payroll-notify-", queueCapacity);
+    }
 }
\ No newline at end of file
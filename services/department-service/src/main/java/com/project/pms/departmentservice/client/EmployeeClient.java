@@ -0,0 +1,42 @@
+package com.project.pms.departmentservice.client;
+
+import com.project.pms.departmentservice.dto.Headcount;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+public class EmployeeClient {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeClient.class);
+
+    private static final String EMPLOYEE_SERVICE = "employee-service";
+
+    @Autowired
+    private DiscoveryClient discoveryClient;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    /** Employee counts per department and position, or empty when no instance answers. */
+    public Optional<List<Headcount>> getHeadcounts() {
+        for (ServiceInstance instance : discoveryClient.getInstances(EMPLOYEE_SERVICE)) {
+            try {
+                Headcount[] headcounts = restTemplate.getForObject(instance.getUri() + "/api/employees/headcount",
+                        Headcount[].class);
+                return Optional.of(headcounts != null ? Arrays.asList(headcounts) : List.of());
+            } catch (RestClientException e) {
+                log.warn("Could not load headcounts from {}: {}", instance.getUri(), e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+}
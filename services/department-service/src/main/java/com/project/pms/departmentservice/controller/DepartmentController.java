@@ -1,10 +1,15 @@
 package com.project.pms.departmentservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.pms.departmentservice.dto.KeysetPage;
+import com.project.pms.departmentservice.dto.OrgStructure;
 import com.project.pms.departmentservice.entity.Department;
 import com.project.pms.departmentservice.service.DepartmentService;
+import com.project.pms.departmentservice.service.OrgStructureService;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,7 +18,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 @RestController
@@ -23,11 +30,34 @@ public class DepartmentController {
     @Autowired
     private DepartmentService departmentService;
 
+    @Autowired
+    private OrgStructureService orgStructureService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping
     public List<Department> getAllDepartments() {
         return departmentService.getAllDepartments();
     }
 
+    @GetMapping("/page")
+    public KeysetPage<Department> getDepartmentPage(@RequestParam(required = false) Long after,
+                                                    @RequestParam(defaultValue = "100") int size,
+                                                    @RequestParam(required = false) String name) {
+        return departmentService.getDepartmentPage(after, size, name);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamDepartments(@RequestParam(required = false) String name) {
+        return NdjsonStreams.<Department>stream(objectMapper, sink -> departmentService.streamDepartments(name, sink));
+    }
+
+    @GetMapping("/org-structure")
+    public OrgStructure getOrgStructure() {
+        return orgStructureService.getOrgStructure();
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Department> getDepartmentById(@PathVariable Long id) {
         return departmentService.getDepartmentById(id)
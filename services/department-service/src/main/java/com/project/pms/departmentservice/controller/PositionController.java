@@ -1,10 +1,13 @@
 package com.project.pms.departmentservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.pms.departmentservice.dto.KeysetPage;
 import com.project.pms.departmentservice.entity.Position;
 import com.project.pms.departmentservice.service.PositionService;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,7 +16,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 @RestController
@@ -23,11 +28,29 @@ public class PositionController {
     @Autowired
     private PositionService positionService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping
     public List<Position> getAllPositions() {
         return positionService.getAllPositions();
     }
 
+    @GetMapping("/page")
+    public KeysetPage<Position> getPositionPage(@RequestParam(required = false) Long after,
+                                                @RequestParam(defaultValue = "100") int size,
+                                                @RequestParam(required = false) Long departmentId,
+                                                @RequestParam(required = false) String title) {
+        return positionService.getPositionPage(after, size, departmentId, title);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamPositions(@RequestParam(required = false) Long departmentId,
+                                                 @RequestParam(required = false) String title) {
+        return NdjsonStreams.<Position>stream(objectMapper,
+                sink -> positionService.streamPositions(departmentId, title, sink));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Position> getPositionById(@PathVariable Long id) {
         return positionService.getPositionById(id)
@@ -35,6 +58,16 @@ public class PositionController {
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/batch")
+    public List<Position> getPositionsByIds(@RequestBody List<Long> ids) {
+        return positionService.getPositionsByIds(ids);
+    }
+
+    @PostMapping(value = "/batch/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamPositionsByIds(@RequestBody List<Long> ids) {
+        return NdjsonStreams.<Position>stream(objectMapper, sink -> positionService.forEachPositionById(ids, sink));
+    }
+
     @PostMapping
     public Position createPosition(@Valid @RequestBody Position position) {
         return positionService.savePosition(position);
@@ -0,0 +1,14 @@
+package com.project.pms.departmentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Headcount {
+    private Long departmentId;
+    private Long positionId;
+    private long employees;
+}
@@ -0,0 +1,14 @@
+package com.project.pms.departmentservice.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class OrgDepartment {
+    private Long departmentId;
+    private String departmentName;
+    private Long headcount;
+    private List<OrgPosition> positions;
+}
@@ -0,0 +1,14 @@
+package com.project.pms.departmentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class OrgPosition {
+    private Long positionId;
+    private String positionTitle;
+    private Double positionBaseSalary;
+    private Double positionExperienceBonus;
+    private Long headcount;
+}
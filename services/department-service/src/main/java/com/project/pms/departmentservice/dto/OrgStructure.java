@@ -0,0 +1,15 @@
+package com.project.pms.departmentservice.dto;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** Headcounts are null when employee-service could not be reached. */
+@Data
+@AllArgsConstructor
+public class OrgStructure {
+    private List<OrgDepartment> departments;
+    private Long totalHeadcount;
+    private Instant generatedAt;
+}
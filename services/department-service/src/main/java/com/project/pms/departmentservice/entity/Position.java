@@ -1,10 +1,11 @@
 package com.project.pms.departmentservice.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
-@Table(name = "positions")
+@Table(name = "positions", indexes = @Index(name = "idx_positions_department", columnList = "departmentId, positionId"))
 @Data
 public class Position {
 
@@ -12,6 +13,7 @@ public class Position {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long positionId;
 
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler", "departmentPositions"})
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "departmentId")
     private Department department;
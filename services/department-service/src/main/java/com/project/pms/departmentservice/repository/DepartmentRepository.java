@@ -1,9 +1,52 @@
 package com.project.pms.departmentservice.repository;
 
 import com.project.pms.departmentservice.entity.Department;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
-}
\ No newline at end of file
+
+    String FILTERED = "select d from Department d where d.departmentId > :after"
+            + " and (:name is null or lower(d.departmentName) like lower(concat('%', :name, '%')))"
+            + " order by d.departmentId";
+
+    /** One row per position, or one row with null position fields for a department without any. */
+    @Query("select d.departmentId as departmentId, d.departmentName as departmentName, p.positionId as positionId,"
+            + " p.positionTitle as positionTitle, p.positionBaseSalary as positionBaseSalary,"
+            + " p.positionExperienceBonus as positionExperienceBonus"
+            + " from Department d left join d.departmentPositions p order by d.departmentId, p.positionId")
+    List<OrgRow> findOrgRows();
+
+    @Query(FILTERED)
+    List<Department> findPage(@Param("after") long after, @Param("name") String name, Pageable pageable);
+
+    @Query(FILTERED)
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Department> streamAll(@Param("after") long after, @Param("name") String name);
+
+    interface OrgRow {
+        Long getDepartmentId();
+
+        String getDepartmentName();
+
+        Long getPositionId();
+
+        String getPositionTitle();
+
+        Double getPositionBaseSalary();
+
+        Double getPositionExperienceBonus();
+    }
+}
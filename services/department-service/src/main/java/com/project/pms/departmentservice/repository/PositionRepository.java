@@ -1,9 +1,34 @@
 package com.project.pms.departmentservice.repository;
 
 import com.project.pms.departmentservice.entity.Position;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PositionRepository extends JpaRepository<Position, Long> {
-}
\ No newline at end of file
+
+    String FILTERED = "select p from Position p left join p.department d where p.positionId > :after"
+            + " and (:departmentId is null or d.departmentId = :departmentId)"
+            + " and (:title is null or lower(p.positionTitle) like lower(concat('%', :title, '%')))"
+            + " order by p.positionId";
+
+    @Query(FILTERED)
+    List<Position> findPage(@Param("after") long after, @Param("departmentId") Long departmentId,
+                            @Param("title") String title, Pageable pageable);
+
+    @Query(FILTERED)
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Position> streamAll(@Param("after") long after, @Param("departmentId") Long departmentId,
+                               @Param("title") String title);
+}
@@ -1,31 +1,78 @@
 package com.project.pms.departmentservice.service;
 
+import com.project.pms.departmentservice.dto.KeysetPage;
 import com.project.pms.departmentservice.entity.Department;
 import com.project.pms.departmentservice.repository.DepartmentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class DepartmentService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private PositionChangeNotifier positionChangeNotifier;
+
+    @Autowired
+    private OrgStructureService orgStructureService;
+
+    @Autowired
+    private PayrollProjectionPublisher payrollProjectionPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll();
     }
 
+    public KeysetPage<Department> getDepartmentPage(Long after, int size, String name) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Department> departments = departmentRepository.findPage(after != null ? after : 0L, name,
+                PageRequest.ofSize(pageSize));
+        Long nextCursor = departments.size() == pageSize
+                ? departments.get(departments.size() - 1).getDepartmentId()
+                : null;
+        return new KeysetPage<>(departments, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamDepartments(String name, Consumer<Department> action) {
+        try (Stream<Department> departments = departmentRepository.streamAll(0L, name)) {
+            departments.forEach(department -> {
+                action.accept(department);
+                entityManager.detach(department);
+            });
+        }
+    }
+
     public Optional<Department> getDepartmentById(Long id) {
         return departmentRepository.findById(id);
     }
 
     public Department saveDepartment(Department department) {
-        return departmentRepository.save(department);
+        Department saved = departmentRepository.save(department);
+        orgStructureService.invalidate();
+        payrollProjectionPublisher.departmentSaved(saved);
+        return saved;
     }
 
     public void deleteDepartment(Long id) {
         departmentRepository.deleteById(id);
+        positionChangeNotifier.allPositionsChanged();
+        orgStructureService.invalidate();
+        payrollProjectionPublisher.departmentDeleted(id);
     }
 }
\ No newline at end of file
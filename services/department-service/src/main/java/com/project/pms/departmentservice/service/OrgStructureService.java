@@ -0,0 +1,112 @@
+package com.project.pms.departmentservice.service;
+
+import com.project.pms.departmentservice.client.EmployeeClient;
+import com.project.pms.departmentservice.dto.Headcount;
+import com.project.pms.departmentservice.dto.OrgDepartment;
+import com.project.pms.departmentservice.dto.OrgPosition;
+import com.project.pms.departmentservice.dto.OrgStructure;
+import com.project.pms.departmentservice.repository.DepartmentRepository;
+import com.project.pms.departmentservice.repository.DepartmentRepository.OrgRow;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * The org chart: every department with its positions and headcounts. Departments and
+ * positions come from one join query projected straight into rows, so no entities or lazy
+ * collections are loaded, and headcounts come from one call to employee-service.
+ * The result is cached until a department or position is written, or until the TTL runs out,
+ * which bounds how stale headcounts get since employee changes are not seen here. A result
+ * without headcounts is not cached.
+ */
+@Service
+public class OrgStructureService {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeClient employeeClient;
+
+    @Value("${org.structure.cache-ttl:PT1M}")
+    private Duration cacheTtl;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Cached cached;
+
+    public OrgStructure getOrgStructure() {
+        Cached current = cached;
+        return isFresh(current, generation.get()) ? current.structure() : load();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private synchronized OrgStructure load() {
+        // Another request may have reloaded while this one waited for the lock.
+        long loadGeneration = generation.get();
+        Cached current = cached;
+        if (isFresh(current, loadGeneration)) {
+            return current.structure();
+        }
+        Instant generatedAt = Instant.now();
+        List<OrgRow> rows = departmentRepository.findOrgRows();
+        Optional<List<Headcount>> headcounts = employeeClient.getHeadcounts();
+        OrgStructure structure = assemble(rows, headcounts.orElse(null), generatedAt);
+        if (headcounts.isPresent()) {
+            cached = new Cached(structure, loadGeneration);
+        }
+        return structure;
+    }
+
+    private boolean isFresh(Cached current, long currentGeneration) {
+        return current != null && current.generation() == currentGeneration
+                && current.structure().getGeneratedAt().plus(cacheTtl).isAfter(Instant.now());
+    }
+
+    private static OrgStructure assemble(List<OrgRow> rows, List<Headcount> headcounts, Instant generatedAt) {
+        Map<Long, Long> byPosition = new HashMap<>();
+        Map<Long, Long> byDepartment = new HashMap<>();
+        long total = 0;
+        if (headcounts != null) {
+            for (Headcount headcount : headcounts) {
+                byPosition.merge(headcount.getPositionId(), headcount.getEmployees(), Long::sum);
+                byDepartment.merge(headcount.getDepartmentId(), headcount.getEmployees(), Long::sum);
+                total += headcount.getEmployees();
+            }
+        }
+
+        // Rows arrive ordered by department, so each department's positions are contiguous.
+        List<OrgDepartment> departments = new ArrayList<>();
+        OrgDepartment department = null;
+        for (OrgRow row : rows) {
+            if (department == null || !department.getDepartmentId().equals(row.getDepartmentId())) {
+                department = new OrgDepartment(row.getDepartmentId(), row.getDepartmentName(),
+                        count(headcounts, byDepartment, row.getDepartmentId()), new ArrayList<>());
+                departments.add(department);
+            }
+            if (row.getPositionId() != null) {
+                department.getPositions().add(new OrgPosition(row.getPositionId(), row.getPositionTitle(),
+                        row.getPositionBaseSalary(), row.getPositionExperienceBonus(),
+                        count(headcounts, byPosition, row.getPositionId())));
+            }
+        }
+        return new OrgStructure(departments, headcounts != null ? total : null, generatedAt);
+    }
+
+    private static Long count(List<Headcount> headcounts, Map<Long, Long> counts, Long id) {
+        return headcounts != null ? counts.getOrDefault(id, 0L) : null;
+    }
+
+    private record Cached(OrgStructure structure, long generation) {
+    }
+}
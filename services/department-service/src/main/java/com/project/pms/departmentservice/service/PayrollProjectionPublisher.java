@@ -0,0 +1,87 @@
+package com.project.pms.departmentservice.service;
+
+import com.project.pms.departmentservice.entity.Department;
+import com.project.pms.departmentservice.entity.Position;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Pushes position and department changes into payroll-service's read model.
+ * All payroll instances share one database, so the first instance that accepts
+ * the change is enough. Changes are sent in order on
+ * {@code payrollNotificationExecutor} once they have committed, so writes do not
+ * wait on payroll. Failures are only logged; a projection rebuild on the payroll
+ * side repairs anything that was missed.
+ */
+@Service
+public class PayrollProjectionPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollProjectionPublisher.class);
+
+    private static final String PAYROLL_SERVICE = "payroll-service";
+
+    @Autowired
+    private DiscoveryClient discoveryClient;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    @Qualifier("payrollNotificationExecutor")
+    private Executor payrollNotificationExecutor;
+
+    public void positionSaved(Position position) {
+        send("/internal/payroll/projection/positions/" + position.getPositionId(), new PositionState(
+                position.getPositionId(), position.getPositionTitle(), position.getPositionBaseSalary(),
+                position.getPositionExperienceBonus()));
+    }
+
+    public void positionDeleted(Long positionId) {
+        send("/internal/payroll/projection/positions/" + positionId, null);
+    }
+
+    public void departmentSaved(Department department) {
+        send("/internal/payroll/projection/departments/" + department.getDepartmentId(),
+                new DepartmentState(department.getDepartmentId(), department.getDepartmentName()));
+    }
+
+    public void departmentDeleted(Long departmentId) {
+        send("/internal/payroll/projection/departments/" + departmentId, null);
+    }
+
+    /** PUTs {@code body} to the path, or DELETEs it when there is no body. */
+    private void send(String path, Object body) {
+        payrollNotificationExecutor.execute(() -> sendNow(path, body));
+    }
+
+    private void sendNow(String path, Object body) {
+        for (ServiceInstance instance : discoveryClient.getInstances(PAYROLL_SERVICE)) {
+            try {
+                if (body != null) {
+                    restTemplate.put(instance.getUri() + path, body);
+                } else {
+                    restTemplate.delete(instance.getUri() + path);
+                }
+                return;
+            } catch (RestClientException e) {
+                log.warn("Could not update payroll projection on {}: {}", instance.getUri(), e.getMessage());
+            }
+        }
+        log.warn("No payroll instance accepted {}; rebuild the payroll projection to catch up", path);
+    }
+
+    private record PositionState(Long positionId, String positionTitle, Double positionBaseSalary,
+                                 Double positionExperienceBonus) {
+    }
+
+    private record DepartmentState(Long departmentId, String departmentName) {
+    }
+}
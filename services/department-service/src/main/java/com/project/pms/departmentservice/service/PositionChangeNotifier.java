@@ -0,0 +1,57 @@
+package com.project.pms.departmentservice.service;
+
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Tells every payroll-service instance to drop its cached copy of a position.
+ * The calls run on {@code payrollNotificationExecutor} after the change commits,
+ * so saving a position does not wait on payroll. Failures are only logged; the
+ * payroll-side cache TTL bounds how long a missed notification can leave stale
+ * salary data around.
+ */
+@Service
+public class PositionChangeNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(PositionChangeNotifier.class);
+
+    private static final String PAYROLL_SERVICE = "payroll-service";
+
+    @Autowired
+    private DiscoveryClient discoveryClient;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    @Qualifier("payrollNotificationExecutor")
+    private Executor payrollNotificationExecutor;
+
+    public void positionChanged(Long positionId) {
+        notifyPayrollInstances("/internal/payroll/cache/positions/" + positionId);
+    }
+
+    public void allPositionsChanged() {
+        notifyPayrollInstances("/internal/payroll/cache/positions");
+    }
+
+    private void notifyPayrollInstances(String path) {
+        payrollNotificationExecutor.execute(() -> {
+            for (ServiceInstance instance : discoveryClient.getInstances(PAYROLL_SERVICE)) {
+                try {
+                    restTemplate.delete(instance.getUri() + path);
+                } catch (RestClientException e) {
+                    log.warn("Could not invalidate position cache on {}: {}", instance.getUri(), e.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -1,31 +1,92 @@
 package com.project.pms.departmentservice.service;
 
+import com.project.pms.departmentservice.dto.KeysetPage;
 import com.project.pms.departmentservice.entity.Position;
 import com.project.pms.departmentservice.repository.PositionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class PositionService {
 
+    private static final int ID_CHUNK_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     @Autowired
     private PositionRepository positionRepository;
 
+    @Autowired
+    private PositionChangeNotifier positionChangeNotifier;
+
+    @Autowired
+    private OrgStructureService orgStructureService;
+
+    @Autowired
+    private PayrollProjectionPublisher payrollProjectionPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public List<Position> getAllPositions() {
         return positionRepository.findAll();
     }
 
+    public KeysetPage<Position> getPositionPage(Long after, int size, Long departmentId, String title) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Position> positions = positionRepository.findPage(after != null ? after : 0L, departmentId, title,
+                PageRequest.ofSize(pageSize));
+        Long nextCursor = positions.size() == pageSize
+                ? positions.get(positions.size() - 1).getPositionId()
+                : null;
+        return new KeysetPage<>(positions, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamPositions(Long departmentId, String title, Consumer<Position> action) {
+        try (Stream<Position> positions = positionRepository.streamAll(0L, departmentId, title)) {
+            positions.forEach(position -> {
+                action.accept(position);
+                entityManager.detach(position);
+            });
+        }
+    }
+
     public Optional<Position> getPositionById(Long id) {
         return positionRepository.findById(id);
     }
 
+    public List<Position> getPositionsByIds(List<Long> ids) {
+        return positionRepository.findAllById(ids);
+    }
+
+    public void forEachPositionById(List<Long> ids, Consumer<Position> action) {
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+            positionRepository.findAllById(chunk).forEach(action);
+            entityManager.clear();
+        }
+    }
+
     public Position savePosition(Position position) {
-        return positionRepository.save(position);
+        Position saved = positionRepository.save(position);
+        positionChangeNotifier.positionChanged(saved.getPositionId());
+        orgStructureService.invalidate();
+        payrollProjectionPublisher.positionSaved(saved);
+        return saved;
     }
 
     public void deletePosition(Long id) {
         positionRepository.deleteById(id);
+        positionChangeNotifier.positionChanged(id);
+        orgStructureService.invalidate();
+        payrollProjectionPublisher.positionDeleted(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS departments (
+    department_id BIGINT NOT NULL AUTO_INCREMENT,
+    department_name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (department_id),
+    CONSTRAINT uk_departments_name UNIQUE (department_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS positions (
+    position_id BIGINT NOT NULL AUTO_INCREMENT,
+    department_id BIGINT,
+    position_title VARCHAR(255) NOT NULL,
+    position_experience_bonus DOUBLE NOT NULL,
+    position_base_salary DOUBLE NOT NULL,
+    PRIMARY KEY (position_id),
+    CONSTRAINT fk_positions_department FOREIGN KEY (department_id) REFERENCES departments (department_id)
+) ENGINE = InnoDB;
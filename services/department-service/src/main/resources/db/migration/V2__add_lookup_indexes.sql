@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_positions_department ON positions (department_id, position_id);
@@ -0,0 +1,60 @@
+package com.project.pms.departmentservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class AfterCommitExecutorTest {
+
+    private final AfterCommitExecutor executor = new AfterCommitExecutor("notify-test-", 10);
+    private final List<String> ran = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        executor.destroy();
+    }
+
+    @Test
+    void tasksRunInOrderOnTheBackgroundThread() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(2);
+        executor.execute(() -> record("first", done));
+        executor.execute(() -> record("second", done));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).containsExactly("first on notify-test-1", "second on notify-test-1");
+    }
+
+    @Test
+    void tasksWaitForTheCommitAndAreDroppedOnRollback() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        TransactionSynchronizationManager.initSynchronization();
+        executor.execute(() -> record("committed", done));
+        Thread.sleep(100);
+        assertThat(ran).isEmpty();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        executor.execute(() -> ran.add("rolled back"));
+        TransactionSynchronizationManager.clearSynchronization();
+        executor.destroy();
+        assertThat(ran).containsExactly("committed on notify-test-1");
+    }
+
+    private void record(String task, CountDownLatch done) {
+        ran.add(task + " on " + Thread.currentThread().getName());
+        done.countDown();
+    }
+}
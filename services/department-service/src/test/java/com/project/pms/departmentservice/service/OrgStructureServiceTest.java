@@ -0,0 +1,116 @@
+package com.project.pms.departmentservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.pms.departmentservice.client.EmployeeClient;
+import com.project.pms.departmentservice.dto.Headcount;
+import com.project.pms.departmentservice.dto.OrgDepartment;
+import com.project.pms.departmentservice.dto.OrgPosition;
+import com.project.pms.departmentservice.dto.OrgStructure;
+import com.project.pms.departmentservice.repository.DepartmentRepository;
+import com.project.pms.departmentservice.repository.DepartmentRepository.OrgRow;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class OrgStructureServiceTest {
+
+    private final DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
+    private final EmployeeClient employeeClient = mock(EmployeeClient.class);
+    private final OrgStructureService orgStructureService = new OrgStructureService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orgStructureService, "departmentRepository", departmentRepository);
+        ReflectionTestUtils.setField(orgStructureService, "employeeClient", employeeClient);
+        ReflectionTestUtils.setField(orgStructureService, "cacheTtl", Duration.ofMinutes(1));
+        when(departmentRepository.findOrgRows()).thenReturn(List.of(
+                new Row(1L, "Engineering", 10L, "Developer", 5000.0, 200.0),
+                new Row(1L, "Engineering", 11L, "Tester", 4000.0, 100.0),
+                new Row(2L, "Finance", null, null, null, null)));
+    }
+
+    @Test
+    void groupsPositionsUnderDepartmentsWithHeadcounts() {
+        when(employeeClient.getHeadcounts()).thenReturn(Optional.of(List.of(
+                new Headcount(1L, 10L, 3), new Headcount(1L, 11L, 2), new Headcount(2L, 12L, 1))));
+
+        OrgStructure structure = orgStructureService.getOrgStructure();
+
+        assertThat(structure.getTotalHeadcount()).isEqualTo(6);
+        assertThat(structure.getDepartments()).extracting(OrgDepartment::getDepartmentName, OrgDepartment::getHeadcount)
+                .containsExactly(tuple("Engineering", 5L),
+                        tuple("Finance", 1L));
+        assertThat(structure.getDepartments().get(0).getPositions())
+                .extracting(OrgPosition::getPositionTitle, OrgPosition::getHeadcount)
+                .containsExactly(tuple("Developer", 3L),
+                        tuple("Tester", 2L));
+        assertThat(structure.getDepartments().get(1).getPositions()).isEmpty();
+    }
+
+    @Test
+    void servesFromCacheUntilInvalidated() {
+        when(employeeClient.getHeadcounts()).thenReturn(Optional.of(List.of()));
+
+        OrgStructure first = orgStructureService.getOrgStructure();
+        assertThat(orgStructureService.getOrgStructure()).isSameAs(first);
+        orgStructureService.invalidate();
+        assertThat(orgStructureService.getOrgStructure()).isNotSameAs(first);
+
+        verify(departmentRepository, times(2)).findOrgRows();
+    }
+
+    @Test
+    void doesNotCacheStructureWithoutHeadcounts() {
+        when(employeeClient.getHeadcounts()).thenReturn(Optional.empty());
+
+        OrgStructure structure = orgStructureService.getOrgStructure();
+        orgStructureService.getOrgStructure();
+
+        assertThat(structure.getTotalHeadcount()).isNull();
+        assertThat(structure.getDepartments().get(0).getHeadcount()).isNull();
+        verify(departmentRepository, times(2)).findOrgRows();
+    }
+
+    private record Row(Long departmentId, String departmentName, Long positionId, String positionTitle,
+                       Double positionBaseSalary, Double positionExperienceBonus) implements OrgRow {
+
+        @Override
+        public Long getDepartmentId() {
+            return departmentId;
+        }
+
+        @Override
+        public String getDepartmentName() {
+            return departmentName;
+        }
+
+        @Override
+        public Long getPositionId() {
+            return positionId;
+        }
+
+        @Override
+        public String getPositionTitle() {
+            return positionTitle;
+        }
+
+        @Override
+        public Double getPositionBaseSalary() {
+            return positionBaseSalary;
+        }
+
+        @Override
+        public Double getPositionExperienceBonus() {
+            return positionExperienceBonus;
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package com.project.pms.employeeservice;
 
+import com.project.pms.employeeservice.service.AfterCommitExecutor;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.client.RestTemplate;
 
 @SpringBootApplication
 @EnableDiscoveryClient
@@ -11,4 +21,28 @@ public class EmployeeServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(EmployeeServiceApplication.class, args);
     }
+
+    // Import validation is CPU-bound, so this stays on platform threads even with virtual threads enabled.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService employeeImportExecutor(@Value("${employee.import.threads:0}") int threads) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("employee-import-"));
+    }
+
+    // Built from Boot's RestTemplateBuilder so the calls are observed (metrics and trace propagation).
+    @Bean
+    public RestTemplate restTemplate(ObjectProvider<RestTemplateBuilder> restTemplateBuilder,
+                                     @Value("${employee.clients.connect-timeout:1s}") Duration connectTimeout,
+                                     @Value("${employee.clients.read-timeout:2s}") Duration readTimeout) {
+        return restTemplateBuilder.getIfAvailable(RestTemplateBuilder::new)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+    }
+
+    @Bean
+    public AfterCommitExecutor payrollNotificationExecutor(
+            @Value("${employee.notifications.queue-capacity:10000}") int queueCapacity) {
+        return new AfterCommitExecutor("payroll-notify-", queueCapacity);
+    }
 }
\ No newline at end of file
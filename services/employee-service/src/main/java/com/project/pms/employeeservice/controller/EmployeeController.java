@@ -1,6 +1,12 @@
 package com.project.pms.employeeservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.project.pms.employeeservice.dto.Headcount;
+import com.project.pms.employeeservice.dto.ImportReport;
+import com.project.pms.employeeservice.dto.KeysetPage;
 import com.project.pms.employeeservice.entity.Employee;
+import com.project.pms.employeeservice.service.EmployeeImportService;
 import com.project.pms.employeeservice.service.EmployeeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -11,8 +17,13 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,22 +35,85 @@ public class EmployeeController {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping
     public List<Employee> getAllEmployees() {
         return employeeService.getAllEmployees();
     }
 
+    @GetMapping("/page")
+    public KeysetPage<Employee> getEmployeePage(@RequestParam(required = false) Long after,
+                                                @RequestParam(defaultValue = "100") int size,
+                                                @RequestParam(required = false) Long departmentId,
+                                                @RequestParam(required = false) Long positionId,
+                                                @RequestParam(required = false) String name) {
+        return employeeService.getEmployeePage(after, size, departmentId, positionId, name);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamEmployees(@RequestParam(required = false) Long departmentId,
+                                                 @RequestParam(required = false) Long positionId,
+                                                 @RequestParam(required = false) String name) {
+        return NdjsonStreams.<Employee>stream(objectMapper,
+                sink -> employeeService.streamEmployees(departmentId, positionId, name, sink));
+    }
+
+    @GetMapping("/ids")
+    public List<Long> getEmployeeIds(@RequestParam(required = false) Long departmentId) {
+        return employeeService.getEmployeeIds(departmentId);
+    }
+
+    @GetMapping("/headcount")
+    public List<Headcount> getHeadcounts() {
+        return employeeService.getHeadcounts();
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployeeById(@PathVariable Long id) {
         Optional<Employee> employee = employeeService.getEmployeeById(id);
         return employee.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/batch")
+    public List<Employee> getEmployeesByIds(@RequestBody List<Long> ids) {
+        return employeeService.getEmployeesByIds(ids);
+    }
+
+    @PostMapping(value = "/batch/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamEmployeesByIds(@RequestBody List<Long> ids) {
+        return NdjsonStreams.<Employee>stream(objectMapper, sink -> employeeService.forEachEmployeeById(ids, sink));
+    }
+
     @PostMapping
     public Employee createEmployee(@Valid @RequestBody Employee employee) {
         return employeeService.saveEmployee(employee);
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportReport> importEmployeesCsv(InputStream body,
+                                                           @RequestParam(defaultValue = "false") boolean dryRun) throws IOException {
+        try {
+            return ResponseEntity.ok(employeeImportService.importCsv(body, dryRun));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportReport> importEmployeesJson(InputStream body,
+                                                            @RequestParam(defaultValue = "false") boolean dryRun) throws IOException {
+        try {
+            return ResponseEntity.ok(employeeImportService.importJson(body, dryRun));
+        } catch (JsonProcessingException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Employee> updateEmployee(@PathVariable Long id, @Valid @RequestBody Employee employeeDetails) {
         return employeeService.getEmployeeById(id)
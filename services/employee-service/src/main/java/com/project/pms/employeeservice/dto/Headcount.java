@@ -0,0 +1,12 @@
+package com.project.pms.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class Headcount {
+    private Long departmentId;
+    private Long positionId;
+    private long employees;
+}
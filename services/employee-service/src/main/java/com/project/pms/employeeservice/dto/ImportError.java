@@ -0,0 +1,13 @@
+package com.project.pms.employeeservice.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ImportError {
+    private int row;
+    private String employeeEmail;
+    private List<String> messages;
+}
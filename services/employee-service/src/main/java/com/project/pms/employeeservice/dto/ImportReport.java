@@ -0,0 +1,20 @@
+package com.project.pms.employeeservice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class ImportReport {
+    private boolean dryRun;
+    private int received;
+    private int imported;
+    private int rejected;
+    private long elapsedMillis;
+    private List<ImportError> errors = new ArrayList<>();
+
+    public void reject(ImportError error) {
+        rejected++;
+        errors.add(error);
+    }
+}
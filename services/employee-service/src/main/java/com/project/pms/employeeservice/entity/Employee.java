@@ -7,7 +7,10 @@ import lombok.Data;
 import jakarta.validation.constraints.NotNull;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        @Index(name = "idx_employees_department", columnList = "departmentId, employeeId"),
+        @Index(name = "idx_employees_position", columnList = "positionId, employeeId")
+})
 @Data
 public class Employee {
 
@@ -29,9 +32,11 @@ public class Employee {
     @Column(nullable = false)
     private Date employeeJoinDate;
 
+    @NotNull(message = "Position is required")
     @Column(nullable = false)
     private Long positionId;
 
+    @NotNull(message = "Department is required")
     @Column(nullable = false)
     private Long departmentId;
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.project.pms.employeeservice.repository;
+
+import com.project.pms.employeeservice.entity.Employee;
+import java.sql.Date;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class EmployeeBatchRepository {
+
+    private static final String INSERT_EMPLOYEE =
+            "INSERT INTO employees (employee_name, employee_email, employee_join_date, position_id, department_id)"
+                    + " VALUES (?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void insertAll(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, employees, employees.size(), (ps, employee) -> {
+            ps.setString(1, employee.getEmployeeName());
+            ps.setString(2, employee.getEmployeeEmail());
+            ps.setDate(3, new Date(employee.getEmployeeJoinDate().getTime()));
+            ps.setLong(4, employee.getPositionId());
+            ps.setLong(5, employee.getDepartmentId());
+        });
+    }
+
+    public List<Employee> findByEmails(List<String> emails) {
+        if (emails.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(emails.size(), "?"));
+        return jdbcTemplate.query("SELECT employee_id, employee_name, employee_email, employee_join_date, position_id,"
+                + " department_id FROM employees WHERE employee_email IN (" + placeholders + ")", (rs, rowNum) -> {
+                    Employee employee = new Employee();
+                    employee.setEmployeeId(rs.getLong("employee_id"));
+                    employee.setEmployeeName(rs.getString("employee_name"));
+                    employee.setEmployeeEmail(rs.getString("employee_email"));
+                    employee.setEmployeeJoinDate(rs.getDate("employee_join_date"));
+                    employee.setPositionId(rs.getLong("position_id"));
+                    employee.setDepartmentId(rs.getLong("department_id"));
+                    return employee;
+                }, emails.toArray());
+    }
+
+    public List<String> findAllEmails() {
+        return jdbcTemplate.queryForList("SELECT employee_email FROM employees", String.class);
+    }
+}
@@ -1,9 +1,44 @@
 package com.project.pms.employeeservice.repository;
 
+import com.project.pms.employeeservice.dto.Headcount;
 import com.project.pms.employeeservice.entity.Employee;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
-}
\ No newline at end of file
+
+    String FILTERED = "select e from Employee e where e.employeeId > :after"
+            + " and (:departmentId is null or e.departmentId = :departmentId)"
+            + " and (:positionId is null or e.positionId = :positionId)"
+            + " and (:name is null or lower(e.employeeName) like lower(concat('%', :name, '%')))"
+            + " order by e.employeeId";
+
+    @Query("select e.employeeId from Employee e where (:departmentId is null or e.departmentId = :departmentId)"
+            + " order by e.employeeId")
+    List<Long> findIds(@Param("departmentId") Long departmentId);
+
+    @Query("select new com.project.pms.employeeservice.dto.Headcount(e.departmentId, e.positionId, count(e))"
+            + " from Employee e group by e.departmentId, e.positionId")
+    List<Headcount> countByDepartmentAndPosition();
+
+    @Query(FILTERED)
+    List<Employee> findPage(@Param("after") long after, @Param("departmentId") Long departmentId,
+                            @Param("positionId") Long positionId, @Param("name") String name, Pageable pageable);
+
+    @Query(FILTERED)
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Employee> streamAll(@Param("after") long after, @Param("departmentId") Long departmentId,
+                               @Param("positionId") Long positionId, @Param("name") String name);
+}
@@ -0,0 +1,59 @@
+package com.project.pms.employeeservice.service;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs notifications to other services on one background thread, in the order they were
+ * submitted, so a request never waits on them. A task submitted inside a transaction runs only
+ * after it commits and is dropped if it rolls back. When {@code queueCapacity} tasks are
+ * already waiting, further ones are dropped and logged.
+ */
+public class AfterCommitExecutor implements Executor, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AfterCommitExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+
+    public AfterCommitExecutor(String threadNamePrefix, int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(threadNamePrefix));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(task);
+                }
+            });
+        } else {
+            submit(task);
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Dropping a notification, {} are already queued", executor.getQueue().size());
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,137 @@
+package com.project.pms.employeeservice.service;
+
+import com.project.pms.employeeservice.entity.Employee;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads employees from CSV one line at a time. The header names the columns (any order, matched
+ * case-insensitively against the {@link Employee} property names); fields may be double-quoted.
+ * Values that cannot be converted become row errors instead of failing the import.
+ */
+final class EmployeeCsvReader implements Closeable {
+
+    private static final String NAME = "employeename";
+    private static final String EMAIL = "employeeemail";
+    private static final String JOIN_DATE = "employeejoindate";
+    private static final String POSITION = "positionid";
+    private static final String DEPARTMENT = "departmentid";
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int row;
+
+    EmployeeCsvReader(Reader reader) throws IOException {
+        this.reader = new BufferedReader(reader, 64 * 1024);
+        String header = this.reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV is empty");
+        }
+        row = 1;
+        List<String> names = split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of(NAME, EMAIL, JOIN_DATE, POSITION, DEPARTMENT)) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing column " + required);
+            }
+        }
+    }
+
+    /**
+     * Returns the next row, numbered by its line in the file (the header is line 1), or
+     * {@code null} at the end of the input. Blank lines are skipped.
+     */
+    EmployeeImportService.ImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            row++;
+        } while (line.isBlank());
+
+        List<String> fields = split(line);
+        List<String> errors = new ArrayList<>();
+        Employee employee = new Employee();
+        employee.setEmployeeName(field(fields, NAME));
+        employee.setEmployeeEmail(field(fields, EMAIL));
+        String joinDate = field(fields, JOIN_DATE);
+        if (joinDate != null) {
+            try {
+                employee.setEmployeeJoinDate(java.sql.Date.valueOf(LocalDate.parse(joinDate)));
+            } catch (DateTimeParseException e) {
+                errors.add("Join date must be an ISO date (yyyy-MM-dd): " + joinDate);
+            }
+        }
+        employee.setPositionId(id(fields, POSITION, "Position", errors));
+        employee.setDepartmentId(id(fields, DEPARTMENT, "Department", errors));
+        return new EmployeeImportService.ImportRow(row, employee, errors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String field(List<String> fields, String column) {
+        int index = columns.get(column);
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Long id(List<String> fields, String column, String label, List<String> errors) {
+        String value = field(fields, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            errors.add(label + " must be a number: " + value);
+            return null;
+        }
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
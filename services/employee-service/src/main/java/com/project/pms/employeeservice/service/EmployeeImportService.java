@@ -0,0 +1,206 @@
+package com.project.pms.employeeservice.service;
+
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.pms.employeeservice.dto.ImportError;
+import com.project.pms.employeeservice.dto.ImportReport;
+import com.project.pms.employeeservice.entity.Employee;
+import com.project.pms.employeeservice.repository.EmployeeBatchRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bulk employee import. Rows are read as a stream and handled in chunks: each chunk is
+ * validated in parallel against the {@link Employee} constraints, checked for email clashes
+ * against a set of existing emails loaded once per import, and written in one JDBC batch.
+ * Memory is bounded by the chunk size plus the email set and the error report. Each written
+ * chunk is read back by email and published to payroll-service's read model.
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    private static final String DUPLICATE_EMAIL = "Email already exists";
+
+    @Autowired
+    private EmployeeBatchRepository employeeBatchRepository;
+
+    @Autowired
+    private PayrollProjectionPublisher payrollProjectionPublisher;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("employeeImportExecutor")
+    private ExecutorService employeeImportExecutor;
+
+    @Value("${employee.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${employee.import.threads:0}")
+    private int threads;
+
+    public ImportReport importCsv(InputStream in, boolean dryRun) throws IOException {
+        try (EmployeeCsvReader reader = new EmployeeCsvReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return importRows(reader::next, dryRun);
+        }
+    }
+
+    /** Accepts a JSON array of employees or newline-delimited JSON objects. */
+    public ImportReport importJson(InputStream in, boolean dryRun) throws IOException {
+        try (MappingIterator<Employee> employees = objectMapper.readerFor(Employee.class).readValues(in)) {
+            int[] row = {0};
+            return importRows(() -> {
+                if (!employees.hasNextValue()) {
+                    return null;
+                }
+                row[0]++;
+                try {
+                    return new ImportRow(row[0], employees.nextValue(), List.of());
+                } catch (DatabindException e) {
+                    return new ImportRow(row[0], null, List.of(e.getOriginalMessage()));
+                }
+            }, dryRun);
+        }
+    }
+
+    private ImportReport importRows(RowSource rows, boolean dryRun) throws IOException {
+        long started = System.nanoTime();
+        ImportReport report = new ImportReport();
+        report.setDryRun(dryRun);
+        Set<String> emails = new HashSet<>();
+        for (String email : employeeBatchRepository.findAllEmails()) {
+            emails.add(normalize(email));
+        }
+
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        for (ImportRow row = rows.next(); row != null; row = rows.next()) {
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, emails, dryRun, report);
+                chunk.clear();
+            }
+        }
+        importChunk(chunk, emails, dryRun, report);
+
+        report.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        log.info("Employee import{}: {} rows, {} imported, {} rejected in {} ms", dryRun ? " (dry run)" : "",
+                report.getReceived(), report.getImported(), report.getRejected(), report.getElapsedMillis());
+        return report;
+    }
+
+    private void importChunk(List<ImportRow> chunk, Set<String> emails, boolean dryRun, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        report.setReceived(report.getReceived() + chunk.size());
+        List<List<String>> violations = validate(chunk);
+
+        // Email checks run in row order so the first of two rows sharing an email wins.
+        List<ImportRow> accepted = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportRow row = chunk.get(i);
+            List<String> errors = new ArrayList<>(row.errors());
+            errors.addAll(violations.get(i));
+            if (errors.isEmpty() && !emails.add(normalize(row.employee().getEmployeeEmail()))) {
+                errors.add(DUPLICATE_EMAIL);
+            }
+            if (errors.isEmpty()) {
+                accepted.add(row);
+            } else {
+                report.reject(new ImportError(row.row(), email(row), errors));
+            }
+        }
+        if (dryRun) {
+            report.setImported(report.getImported() + accepted.size());
+        } else {
+            insert(accepted, report);
+        }
+    }
+
+    private List<List<String>> validate(List<ImportRow> chunk) {
+        int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int sliceSize = Math.max(1, (chunk.size() + parallelism - 1) / parallelism);
+        List<CompletableFuture<List<List<String>>>> slices = new ArrayList<>();
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            List<ImportRow> slice = chunk.subList(from, Math.min(from + sliceSize, chunk.size()));
+            slices.add(CompletableFuture.supplyAsync(() -> slice.stream().map(this::violations).toList(),
+                    employeeImportExecutor));
+        }
+        List<List<String>> violations = new ArrayList<>(chunk.size());
+        slices.forEach(slice -> violations.addAll(slice.join()));
+        return violations;
+    }
+
+    private List<String> violations(ImportRow row) {
+        if (row.employee() == null) {
+            return List.of();
+        }
+        Set<ConstraintViolation<Employee>> violations = validator.validate(row.employee());
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().toList();
+    }
+
+    private void insert(List<ImportRow> rows, ImportReport report) {
+        List<Employee> inserted = new ArrayList<>(rows.size());
+        try {
+            employeeBatchRepository.insertAll(rows.stream().map(ImportRow::employee).toList());
+            rows.forEach(row -> inserted.add(row.employee()));
+        } catch (DataIntegrityViolationException e) {
+            // Someone created one of these emails since the import started; find it row by row.
+            for (ImportRow row : rows) {
+                try {
+                    employeeBatchRepository.insertAll(List.of(row.employee()));
+                    inserted.add(row.employee());
+                } catch (DataIntegrityViolationException rowError) {
+                    report.reject(new ImportError(row.row(), email(row), List.of(DUPLICATE_EMAIL)));
+                }
+            }
+        }
+        report.setImported(report.getImported() + inserted.size());
+        if (!inserted.isEmpty()) {
+            payrollProjectionPublisher.employeesSaved(employeeBatchRepository.findByEmails(
+                    inserted.stream().map(Employee::getEmployeeEmail).toList()));
+        }
+    }
+
+    // MariaDB's default collation compares emails case-insensitively, and so does the unique key.
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String email(ImportRow row) {
+        return row.employee() != null ? row.employee().getEmployeeEmail() : null;
+    }
+
+    record ImportRow(int row, Employee employee, List<String> errors) {
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        ImportRow next() throws IOException;
+    }
+}
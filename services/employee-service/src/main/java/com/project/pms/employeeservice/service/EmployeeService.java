@@ -1,31 +1,91 @@
 package com.project.pms.employeeservice.service;
 
+import com.project.pms.employeeservice.dto.Headcount;
+import com.project.pms.employeeservice.dto.KeysetPage;
 import com.project.pms.employeeservice.entity.Employee;
 import com.project.pms.employeeservice.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class EmployeeService {
 
+    private static final int ID_CHUNK_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private PayrollProjectionPublisher payrollProjectionPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
 
+    public KeysetPage<Employee> getEmployeePage(Long after, int size, Long departmentId, Long positionId, String name) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Employee> employees = employeeRepository.findPage(after != null ? after : 0L, departmentId, positionId,
+                name, PageRequest.ofSize(pageSize));
+        Long nextCursor = employees.size() == pageSize
+                ? employees.get(employees.size() - 1).getEmployeeId()
+                : null;
+        return new KeysetPage<>(employees, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamEmployees(Long departmentId, Long positionId, String name, Consumer<Employee> action) {
+        try (Stream<Employee> employees = employeeRepository.streamAll(0L, departmentId, positionId, name)) {
+            employees.forEach(employee -> {
+                action.accept(employee);
+                entityManager.detach(employee);
+            });
+        }
+    }
+
+    public List<Long> getEmployeeIds(Long departmentId) {
+        return employeeRepository.findIds(departmentId);
+    }
+
+    public List<Headcount> getHeadcounts() {
+        return employeeRepository.countByDepartmentAndPosition();
+    }
+
     public Optional<Employee> getEmployeeById(Long id) {
         return employeeRepository.findById(id);
     }
 
+    public List<Employee> getEmployeesByIds(List<Long> ids) {
+        return employeeRepository.findAllById(ids);
+    }
+
+    public void forEachEmployeeById(List<Long> ids, Consumer<Employee> action) {
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+            employeeRepository.findAllById(chunk).forEach(action);
+            entityManager.clear();
+        }
+    }
+
     public Employee saveEmployee(Employee employee) {
-        return employeeRepository.save(employee);
+        Employee saved = employeeRepository.save(employee);
+        payrollProjectionPublisher.employeesSaved(List.of(saved));
+        return saved;
     }
 
     public void deleteEmployee(Long id) {
         employeeRepository.deleteById(id);
+        payrollProjectionPublisher.employeeDeleted(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS employees (
+    employee_id BIGINT NOT NULL AUTO_INCREMENT,
+    employee_name VARCHAR(255) NOT NULL,
+    employee_email VARCHAR(255) NOT NULL,
+    employee_join_date DATE NOT NULL,
+    position_id BIGINT NOT NULL,
+    department_id BIGINT NOT NULL,
+    PRIMARY KEY (employee_id),
+    CONSTRAINT uk_employees_email UNIQUE (employee_email)
+) ENGINE = InnoDB;
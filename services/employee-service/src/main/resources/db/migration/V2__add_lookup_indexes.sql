@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_employees_department ON employees (department_id, employee_id);
+CREATE INDEX IF NOT EXISTS idx_employees_position ON employees (position_id, employee_id);
@@ -0,0 +1,104 @@
+package com.project.pms.employeeservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.pms.employeeservice.dto.ImportError;
+import com.project.pms.employeeservice.dto.ImportReport;
+import com.project.pms.employeeservice.entity.Employee;
+import com.project.pms.employeeservice.repository.EmployeeBatchRepository;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EmployeeImportServiceTest {
+
+    private final EmployeeBatchRepository batchRepository = mock(EmployeeBatchRepository.class);
+    private final PayrollProjectionPublisher publisher = mock(PayrollProjectionPublisher.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final List<Employee> inserted = new ArrayList<>();
+    private final EmployeeImportService importService = new EmployeeImportService();
+
+    @BeforeEach
+    void setUp() {
+        when(batchRepository.findAllEmails()).thenReturn(List.of("Existing@Example.com"));
+        doAnswer(invocation -> inserted.addAll(invocation.getArgument(0)))
+                .when(batchRepository).insertAll(anyList());
+        ReflectionTestUtils.setField(importService, "employeeBatchRepository", batchRepository);
+        ReflectionTestUtils.setField(importService, "payrollProjectionPublisher", publisher);
+        ReflectionTestUtils.setField(importService, "validator",
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(importService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(importService, "employeeImportExecutor", executor);
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+        ReflectionTestUtils.setField(importService, "threads", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void importsValidCsvRowsAndReportsTheRest() throws IOException {
+        ImportReport report = importService.importCsv(stream("""
+                employeeEmail,employeeName,employeeJoinDate,positionId,departmentId
+                ada@example.com,"Lovelace, Ada",2024-01-15,1,2
+                existing@example.com,Someone,2024-01-15,1,2
+                not-an-email,Bad Email,2024-01-15,1,2
+                ADA@example.com,Ada Again,2024-01-15,1,2
+                grace@example.com,Grace Hopper,15/01/2024,x,2
+                linus@example.com,Linus,2024-02-01,3,4
+                """), false);
+
+        assertThat(report.getReceived()).isEqualTo(6);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(4);
+        assertThat(report.getErrors()).extracting(ImportError::getRow).containsExactly(3, 4, 5, 6);
+        assertThat(report.getErrors().get(0).getMessages()).containsExactly("Email already exists");
+        assertThat(report.getErrors().get(1).getMessages()).containsExactly("Invalid email format");
+        assertThat(report.getErrors().get(2).getMessages()).containsExactly("Email already exists");
+        assertThat(report.getErrors().get(3).getMessages()).containsExactlyInAnyOrder(
+                "Join date must be an ISO date (yyyy-MM-dd): 15/01/2024", "Position must be a number: x",
+                "Join date is required", "Position is required");
+        assertThat(inserted).extracting(Employee::getEmployeeName).containsExactly("Lovelace, Ada", "Linus");
+        verify(batchRepository).findByEmails(List.of("ada@example.com"));
+        verify(batchRepository).findByEmails(List.of("linus@example.com"));
+    }
+
+    @Test
+    void dryRunValidatesJsonWithoutWriting() throws IOException {
+        ImportReport report = importService.importJson(stream("""
+                {"employeeName":"Ada","employeeEmail":"ada@example.com","employeeJoinDate":"2024-01-15","positionId":1,"departmentId":2}
+                {"employeeName":"Bad","employeeEmail":"bad@example.com","employeeJoinDate":"2024-01-15","positionId":"x","departmentId":2}
+                {"employeeName":"","employeeEmail":"blank@example.com","employeeJoinDate":"2024-01-15","positionId":1,"departmentId":2}
+                """), true);
+
+        assertThat(report.isDryRun()).isTrue();
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(ImportError::getRow).containsExactly(2, 3);
+        assertThat(report.getErrors().get(1).getMessages()).containsExactly("Employee name cannot be blank");
+        verify(batchRepository, never()).insertAll(anyList());
+        verify(publisher, never()).employeesSaved(anyList());
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.pms.leaveservice.client;
+
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+public class EmployeeClient {
+
+    @Autowired
+    @Qualifier("employeeRestTemplate")
+    private RestTemplate restTemplate;
+
+    public List<Long> getEmployeeIds(Long departmentId) {
+        Long[] ids = restTemplate.getForObject("http://employee-service/api/employees/ids?departmentId={departmentId}",
+                Long[].class, departmentId);
+        return ids != null ? Arrays.asList(ids) : List.of();
+    }
+}
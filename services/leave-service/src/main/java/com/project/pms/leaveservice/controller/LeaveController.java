@@ -1,11 +1,20 @@
 package com.project.pms.leaveservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.pms.leaveservice.dto.ApprovedLeave;
+import com.project.pms.leaveservice.dto.KeysetPage;
+import com.project.pms.leaveservice.dto.LeaveDays;
 import com.project.pms.leaveservice.entity.Leave;
 import com.project.pms.leaveservice.service.LeaveService;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 @RestController
@@ -15,9 +24,16 @@ public class LeaveController {
     @Autowired
     private LeaveService leaveService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping("/apply/{employeeId}")
     public ResponseEntity<Leave> applyForLeave(@PathVariable Long employeeId, @RequestBody Leave leave) {
-        return ResponseEntity.ok(leaveService.applyForLeave(employeeId, leave));
+        try {
+            return ResponseEntity.ok(leaveService.applyForLeave(employeeId, leave));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PutMapping("/update/{leaveId}")
@@ -26,12 +42,64 @@ public class LeaveController {
     }
 
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<List<Leave>> getLeavesForEmployee(@PathVariable Long employeeId) {
-        return ResponseEntity.ok(leaveService.getLeavesForEmployee(employeeId));
+    public ResponseEntity<List<Leave>> getLeavesForEmployee(@PathVariable Long employeeId,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                            @RequestParam(required = false) Leave.LeaveStatus status) {
+        if (from == null && to == null && status == null) {
+            return ResponseEntity.ok(leaveService.getLeavesForEmployee(employeeId));
+        }
+        return ResponseEntity.ok(leaveService.searchLeaves(from != null ? from : LocalDate.of(1, 1, 1),
+                to != null ? to : LocalDate.of(9999, 12, 31), status, employeeId, null));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<Leave>> searchLeaves(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                    @RequestParam(required = false) Leave.LeaveStatus status,
+                                                    @RequestParam(required = false) Long employeeId,
+                                                    @RequestParam(required = false) Long departmentId) {
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(leaveService.searchLeaves(from, to, status, employeeId, departmentId));
+    }
+
+    @GetMapping("/on-leave")
+    public ResponseEntity<List<ApprovedLeave>> getApprovedLeaves(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                 @RequestParam(required = false) Long employeeId,
+                                                                 @RequestParam(required = false) Long departmentId) {
+        LocalDate end = to != null ? to : from;
+        if (end.isBefore(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(leaveService.getApprovedLeaves(from, end, employeeId, departmentId));
+    }
+
+    /** Approved leave days of a month as bitsets per employee, for payroll to prefetch in one call. */
+    @GetMapping("/days")
+    public ResponseEntity<List<LeaveDays>> getLeaveDays(@RequestParam YearMonth month,
+                                                        @RequestParam(required = false) Long employeeId) {
+        return ResponseEntity.ok(leaveService.getLeaveDays(month, employeeId));
     }
 
     @GetMapping
     public ResponseEntity<List<Leave>> getAllLeaveRequests() {
         return ResponseEntity.ok(leaveService.getAllLeaveRequests());
     }
+
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPage<Leave>> getLeavePage(@RequestParam(required = false) Long after,
+                                                          @RequestParam(defaultValue = "100") int size,
+                                                          @RequestParam(required = false) Long employeeId,
+                                                          @RequestParam(required = false) Leave.LeaveStatus status) {
+        return ResponseEntity.ok(leaveService.getLeavePage(after, size, employeeId, status));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamLeaves(@RequestParam(required = false) Long employeeId,
+                                              @RequestParam(required = false) Leave.LeaveStatus status) {
+        return NdjsonStreams.<Leave>stream(objectMapper, sink -> leaveService.streamLeaves(employeeId, status, sink));
+    }
 }
\ No newline at end of file
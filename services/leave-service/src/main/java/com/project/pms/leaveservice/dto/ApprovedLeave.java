@@ -0,0 +1,12 @@
+package com.project.pms.leaveservice.dto;
+
+import com.project.pms.leaveservice.entity.Leave;
+import java.time.LocalDate;
+
+public record ApprovedLeave(Long leaveId, Long employeeId, LocalDate startDate, LocalDate endDate,
+                            Leave.LeaveType leaveType) {
+
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return !startDate.isAfter(to) && !endDate.isBefore(from);
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.pms.leaveservice.dto;
+
+/**
+ * Days of one month an employee is on approved leave, as bitsets split by leave type:
+ * bit {@code d - 1} is day-of-month {@code d}.
+ */
+public record LeaveDays(Long employeeId, long paidDays, long unpaidDays) {
+}
@@ -5,7 +5,11 @@ import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
-@Table(name = "leaves")
+@Table(name = "leaves", indexes = {
+        @Index(name = "idx_leaves_employee_start_date", columnList = "employeeId, startDate"),
+        @Index(name = "idx_leaves_end_date", columnList = "endDate, startDate"),
+        @Index(name = "idx_leaves_status_end_date", columnList = "status, endDate, startDate")
+})
 @Data
 public class Leave {
 
@@ -15,8 +19,15 @@ public class Leave {
         REJECTED
     }
 
+    public enum LeaveType {
+        PAID,
+        UNPAID
+    }
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "leave_id")
+    @TableGenerator(name = "leave_id", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "leaves", allocationSize = 50)
     private Long leaveId;
 
     @Column(nullable = false)
@@ -32,4 +43,16 @@ public class Leave {
 
     @Enumerated(EnumType.STRING)
     private LeaveStatus status = LeaveStatus.PENDING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LeaveType leaveType = LeaveType.PAID;
+
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return !startDate.isAfter(to) && !endDate.isBefore(from);
+    }
+
+    public boolean overlaps(Leave other) {
+        return overlaps(other.getStartDate(), other.getEndDate());
+    }
 }
\ No newline at end of file
@@ -1,11 +1,56 @@
 package com.project.pms.leaveservice.repository;
 
+import com.project.pms.leaveservice.dto.ApprovedLeave;
 import com.project.pms.leaveservice.entity.Leave;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface LeaveRepository extends JpaRepository<Leave, Long> {
+
+    String FILTERED = "select l from Leave l where l.leaveId > :after"
+            + " and (:employeeId is null or l.employeeId = :employeeId)"
+            + " and (:status is null or l.status = :status)"
+            + " order by l.leaveId";
+
+    String OVERLAPPING = "select l from Leave l where l.endDate >= :from and l.startDate <= :to"
+            + " and (:status is null or l.status = :status)";
+
     List<Leave> findByEmployeeId(Long employeeId);
-}
\ No newline at end of file
+
+    @Query(FILTERED)
+    List<Leave> findPage(@Param("after") long after, @Param("employeeId") Long employeeId,
+                         @Param("status") Leave.LeaveStatus status, Pageable pageable);
+
+    @Query(FILTERED)
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Leave> streamAll(@Param("after") long after, @Param("employeeId") Long employeeId,
+                            @Param("status") Leave.LeaveStatus status);
+
+    @Query(OVERLAPPING + " order by l.startDate, l.leaveId")
+    List<Leave> findOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                @Param("status") Leave.LeaveStatus status);
+
+    @Query(OVERLAPPING + " and l.employeeId in :employeeIds order by l.startDate, l.leaveId")
+    List<Leave> findOverlappingForEmployees(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                            @Param("status") Leave.LeaveStatus status,
+                                            @Param("employeeIds") Collection<Long> employeeIds);
+
+    @Query("select new com.project.pms.leaveservice.dto.ApprovedLeave(l.leaveId, l.employeeId, l.startDate, l.endDate,"
+            + " l.leaveType)"
+            + " from Leave l where l.status = :status")
+    List<ApprovedLeave> findSpansByStatus(@Param("status") Leave.LeaveStatus status);
+}
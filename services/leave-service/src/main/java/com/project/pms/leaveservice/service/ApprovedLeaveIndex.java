@@ -0,0 +1,146 @@
+package com.project.pms.leaveservice.service;
+
+import com.project.pms.leaveservice.dto.ApprovedLeave;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory interval index of approved leaves. Leaves are kept sorted by start date
+ * together with the longest leave's length, so "who is on leave in [from, to]" only
+ * looks at leaves starting between {@code from - longest + 1} and {@code to} instead
+ * of every leave on file. Leaves that end before they start are left out, since the
+ * search window assumes every indexed leave is at least one day long.
+ */
+final class ApprovedLeaveIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ApprovedLeaveIndex.class);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, ApprovedLeave> byId = new HashMap<>();
+    private final NavigableMap<LocalDate, List<ApprovedLeave>> byStart = new TreeMap<>();
+    private final Map<Long, List<ApprovedLeave>> byEmployee = new HashMap<>();
+    private final NavigableMap<Long, Integer> lengths = new TreeMap<>();
+
+    void load(Collection<ApprovedLeave> leaves) {
+        lock.writeLock().lock();
+        try {
+            byId.clear();
+            byStart.clear();
+            byEmployee.clear();
+            lengths.clear();
+            leaves.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void put(ApprovedLeave leave) {
+        lock.writeLock().lock();
+        try {
+            removeById(leave.leaveId());
+            add(leave);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long leaveId) {
+        lock.writeLock().lock();
+        try {
+            removeById(leaveId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<ApprovedLeave> overlapping(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            List<ApprovedLeave> result = new ArrayList<>();
+            if (lengths.isEmpty()) {
+                return result;
+            }
+            LocalDate earliestStart = from.minusDays(lengths.lastKey() - 1);
+            for (List<ApprovedLeave> leaves : byStart.subMap(earliestStart, true, to, true).values()) {
+                for (ApprovedLeave leave : leaves) {
+                    if (!leave.endDate().isBefore(from)) {
+                        result.add(leave);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<ApprovedLeave> overlapping(Long employeeId, LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            List<ApprovedLeave> result = new ArrayList<>();
+            for (ApprovedLeave leave : byEmployee.getOrDefault(employeeId, List.of())) {
+                if (leave.overlaps(from, to)) {
+                    result.add(leave);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(ApprovedLeave leave) {
+        // Rows written before applyForLeave checked the dates can end before they start.
+        if (leave.endDate().isBefore(leave.startDate())) {
+            log.warn("Not indexing leave {} of employee {}: it ends on {} before it starts on {}",
+                    leave.leaveId(), leave.employeeId(), leave.endDate(), leave.startDate());
+            return;
+        }
+        byId.put(leave.leaveId(), leave);
+        byStart.computeIfAbsent(leave.startDate(), start -> new ArrayList<>()).add(leave);
+        byEmployee.computeIfAbsent(leave.employeeId(), employeeId -> new ArrayList<>()).add(leave);
+        lengths.merge(length(leave), 1, Integer::sum);
+    }
+
+    private void removeById(Long leaveId) {
+        ApprovedLeave leave = byId.remove(leaveId);
+        if (leave == null) {
+            return;
+        }
+        removeFrom(byStart, leave.startDate(), leave);
+        removeFrom(byEmployee, leave.employeeId(), leave);
+        lengths.computeIfPresent(length(leave), (length, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static <K> void removeFrom(Map<K, List<ApprovedLeave>> map, K key, ApprovedLeave leave) {
+        List<ApprovedLeave> leaves = map.get(key);
+        leaves.remove(leave);
+        if (leaves.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private static long length(ApprovedLeave leave) {
+        return ChronoUnit.DAYS.between(leave.startDate(), leave.endDate()) + 1;
+    }
+}
@@ -1,35 +1,176 @@
 package com.project.pms.leaveservice.service;
 
+import com.project.pms.leaveservice.client.EmployeeClient;
+import com.project.pms.leaveservice.dto.ApprovedLeave;
+import com.project.pms.leaveservice.dto.KeysetPage;
+import com.project.pms.leaveservice.dto.LeaveDays;
 import com.project.pms.leaveservice.entity.Leave;
 import com.project.pms.leaveservice.repository.LeaveRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 @Service
 public class LeaveService {
 
+    private static final Logger log = LoggerFactory.getLogger(LeaveService.class);
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
     @Autowired
     private LeaveRepository leaveRepository;
 
+    @Autowired
+    private EmployeeClient employeeClient;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Approved leaves for "who is away" lookups. Writes through this service keep it
+    // current; the periodic reload picks up changes made by other instances.
+    private final ApprovedLeaveIndex approvedLeaves = new ApprovedLeaveIndex();
+    private final Object indexLock = new Object();
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${leave.index.refresh-interval:PT5M}",
+            initialDelayString = "${leave.index.refresh-interval:PT5M}")
+    void reloadApprovedLeaves() {
+        synchronized (indexLock) {
+            List<ApprovedLeave> leaves = leaveRepository.findSpansByStatus(Leave.LeaveStatus.APPROVED);
+            approvedLeaves.load(leaves);
+            log.debug("Indexed {} approved leaves", leaves.size());
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the leave has no dates or ends before it starts
+     */
     public Leave applyForLeave(Long employeeId, Leave leave) {
+        if (leave.getStartDate() == null || leave.getEndDate() == null
+                || leave.getEndDate().isBefore(leave.getStartDate())) {
+            throw new IllegalArgumentException("Leave must start on or before its end date, got "
+                    + leave.getStartDate() + " to " + leave.getEndDate());
+        }
         leave.setEmployeeId(employeeId);
-        return leaveRepository.save(leave);
+        if (leave.getLeaveType() == null) {
+            leave.setLeaveType(Leave.LeaveType.PAID);
+        }
+        return saveAndIndex(leave);
     }
 
     public Leave updateLeaveStatus(Long leaveId, Leave.LeaveStatus status) {
         Leave leave = leaveRepository.findById(leaveId)
                 .orElseThrow(() -> new RuntimeException("Leave record not found"));
         leave.setStatus(status);
-        return leaveRepository.save(leave);
+        return saveAndIndex(leave);
+    }
+
+    private Leave saveAndIndex(Leave leave) {
+        synchronized (indexLock) {
+            Leave saved = leaveRepository.save(leave);
+            if (saved.getStatus() == Leave.LeaveStatus.APPROVED) {
+                approvedLeaves.put(new ApprovedLeave(saved.getLeaveId(), saved.getEmployeeId(),
+                        saved.getStartDate(), saved.getEndDate(), saved.getLeaveType()));
+            } else {
+                approvedLeaves.remove(saved.getLeaveId());
+            }
+            return saved;
+        }
     }
 
     public List<Leave> getLeavesForEmployee(Long employeeId) {
         return leaveRepository.findByEmployeeId(employeeId);
     }
 
+    public List<Leave> searchLeaves(LocalDate from, LocalDate to, Leave.LeaveStatus status,
+                                    Long employeeId, Long departmentId) {
+        if (employeeId != null) {
+            return leaveRepository.findOverlappingForEmployees(from, to, status, List.of(employeeId));
+        }
+        if (departmentId != null) {
+            List<Long> employeeIds = employeeClient.getEmployeeIds(departmentId);
+            return employeeIds.isEmpty()
+                    ? List.of()
+                    : leaveRepository.findOverlappingForEmployees(from, to, status, employeeIds);
+        }
+        return leaveRepository.findOverlapping(from, to, status);
+    }
+
+    public List<ApprovedLeave> getApprovedLeaves(LocalDate from, LocalDate to, Long employeeId, Long departmentId) {
+        if (employeeId != null) {
+            return approvedLeaves.overlapping(employeeId, from, to);
+        }
+        List<ApprovedLeave> leaves = approvedLeaves.overlapping(from, to);
+        if (departmentId == null) {
+            return leaves;
+        }
+        Set<Long> employeeIds = new HashSet<>(employeeClient.getEmployeeIds(departmentId));
+        return leaves.stream()
+                .filter(leave -> employeeIds.contains(leave.employeeId()))
+                .toList();
+    }
+
+    /** Approved leave days of a month as paid and unpaid bitsets per employee, from the in-memory index. */
+    public List<LeaveDays> getLeaveDays(YearMonth month, Long employeeId) {
+        LocalDate first = month.atDay(1);
+        LocalDate last = month.atEndOfMonth();
+        List<ApprovedLeave> leaves = employeeId != null
+                ? approvedLeaves.overlapping(employeeId, first, last)
+                : approvedLeaves.overlapping(first, last);
+
+        Map<Long, long[]> days = new TreeMap<>();
+        for (ApprovedLeave leave : leaves) {
+            int from = leave.startDate().isBefore(first) ? 1 : leave.startDate().getDayOfMonth();
+            int to = leave.endDate().isAfter(last) ? last.getDayOfMonth() : leave.endDate().getDayOfMonth();
+            long bits = (-1L >>> (64 - (to - from + 1))) << (from - 1);
+            int slot = leave.leaveType() == Leave.LeaveType.UNPAID ? 1 : 0;
+            days.computeIfAbsent(leave.employeeId(), id -> new long[2])[slot] |= bits;
+        }
+
+        List<LeaveDays> result = new ArrayList<>(days.size());
+        days.forEach((id, bits) -> result.add(new LeaveDays(id, bits[0], bits[1])));
+        return result;
+    }
+
     public List<Leave> getAllLeaveRequests() {
         return leaveRepository.findAll();
     }
+
+    public KeysetPage<Leave> getLeavePage(Long after, int size, Long employeeId, Leave.LeaveStatus status) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Leave> leaves = leaveRepository.findPage(after != null ? after : 0L, employeeId, status,
+                PageRequest.ofSize(pageSize));
+        Long nextCursor = leaves.size() == pageSize
+                ? leaves.get(leaves.size() - 1).getLeaveId()
+                : null;
+        return new KeysetPage<>(leaves, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamLeaves(Long employeeId, Leave.LeaveStatus status, Consumer<Leave> action) {
+        try (Stream<Leave> leaves = leaveRepository.streamAll(0L, employeeId, status)) {
+            leaves.forEach(leave -> {
+                action.accept(leave);
+                entityManager.detach(leave);
+            });
+        }
+    }
 }
\ No newline at end of file
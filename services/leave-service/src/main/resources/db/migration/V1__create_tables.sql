@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS leaves (
+    leave_id BIGINT NOT NULL AUTO_INCREMENT,
+    employee_id BIGINT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    reason VARCHAR(255),
+    status VARCHAR(16),
+    PRIMARY KEY (leave_id)
+) ENGINE = InnoDB;
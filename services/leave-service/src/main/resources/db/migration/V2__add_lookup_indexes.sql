@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_leaves_employee_start_date ON leaves (employee_id, start_date);
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_leaves_end_date ON leaves (end_date, start_date);
+CREATE INDEX IF NOT EXISTS idx_leaves_status_end_date ON leaves (status, end_date, start_date);
@@ -0,0 +1,2 @@
+-- Unpaid leave is deducted from pay; everything on file so far was paid leave.
+ALTER TABLE leaves ADD COLUMN IF NOT EXISTS leave_type VARCHAR(16) NOT NULL DEFAULT 'PAID';
@@ -0,0 +1,44 @@
+package com.project.pms.leaveservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:leave;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LeaveRepositoryIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findByEmployeeIdUsesEmployeeStartDateIndex() {
+        assertThat(explain("SELECT * FROM leaves WHERE employee_id = 42"))
+                .containsIgnoringCase("idx_leaves_employee_start_date");
+    }
+
+    @Test
+    void startDateRangeForEmployeeUsesEmployeeStartDateIndex() {
+        assertThat(explain("SELECT * FROM leaves WHERE employee_id = 42 AND start_date >= DATE '2024-01-01'"))
+                .containsIgnoringCase("idx_leaves_employee_start_date");
+    }
+
+    @Test
+    void overlappingPeriodForStatusUsesStatusEndDateIndex() {
+        assertThat(explain("SELECT * FROM leaves WHERE status = 'APPROVED'"
+                + " AND end_date >= DATE '2024-05-01' AND start_date <= DATE '2024-05-31'"))
+                .containsIgnoringCase("idx_leaves_status_end_date");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
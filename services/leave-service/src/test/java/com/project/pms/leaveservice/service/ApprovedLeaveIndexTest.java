@@ -0,0 +1,65 @@
+package com.project.pms.leaveservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.pms.leaveservice.dto.ApprovedLeave;
+import com.project.pms.leaveservice.entity.Leave;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ApprovedLeaveIndexTest {
+
+    private static final LocalDate MAY_1 = LocalDate.of(2024, 5, 1);
+
+    @Test
+    void findsLeavesOverlappingDateAndPeriod() {
+        ApprovedLeaveIndex index = new ApprovedLeaveIndex();
+        index.load(List.of(
+                leave(1, 10, MAY_1.minusDays(20), MAY_1),
+                leave(2, 11, MAY_1.plusDays(1), MAY_1.plusDays(2)),
+                leave(3, 12, MAY_1.minusDays(3), MAY_1.minusDays(1)),
+                leave(4, 10, MAY_1.plusDays(10), MAY_1.plusDays(12))));
+
+        assertThat(ids(index.overlapping(MAY_1, MAY_1))).containsExactly(1L);
+        assertThat(ids(index.overlapping(MAY_1.minusDays(1), MAY_1.plusDays(1)))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ids(index.overlapping(10L, MAY_1, MAY_1.plusDays(30)))).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(index.overlapping(MAY_1.plusDays(3), MAY_1.plusDays(9))).isEmpty();
+    }
+
+    @Test
+    void leavesEndingBeforeTheyStartAreNotIndexed() {
+        ApprovedLeaveIndex index = new ApprovedLeaveIndex();
+        index.load(List.of(leave(1, 10, MAY_1.plusDays(5), MAY_1)));
+
+        assertThat(index.size()).isZero();
+        assertThat(index.overlapping(MAY_1, MAY_1.plusDays(1))).isEmpty();
+
+        index.put(leave(2, 11, MAY_1, MAY_1.plusDays(1)));
+        index.put(leave(2, 11, MAY_1.plusDays(3), MAY_1));
+        assertThat(index.overlapping(MAY_1, MAY_1.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    void putAndRemoveKeepIndexInSync() {
+        ApprovedLeaveIndex index = new ApprovedLeaveIndex();
+        index.put(leave(1, 10, MAY_1.minusDays(30), MAY_1));
+        index.put(leave(2, 11, MAY_1, MAY_1));
+
+        index.remove(1L);
+        assertThat(ids(index.overlapping(MAY_1, MAY_1))).containsExactly(2L);
+
+        index.put(leave(2, 11, MAY_1.plusDays(5), MAY_1.plusDays(6)));
+        assertThat(index.overlapping(MAY_1, MAY_1)).isEmpty();
+        assertThat(ids(index.overlapping(11L, MAY_1.plusDays(6), MAY_1.plusDays(6)))).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static ApprovedLeave leave(long leaveId, long employeeId, LocalDate start, LocalDate end) {
+        return new ApprovedLeave(leaveId, employeeId, start, end, Leave.LeaveType.PAID);
+    }
+
+    private static List<Long> ids(List<ApprovedLeave> leaves) {
+        return leaves.stream().map(ApprovedLeave::leaveId).toList();
+    }
+}
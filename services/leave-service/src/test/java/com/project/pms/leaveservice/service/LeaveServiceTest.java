@@ -0,0 +1,63 @@
+package com.project.pms.leaveservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.pms.leaveservice.dto.ApprovedLeave;
+import com.project.pms.leaveservice.dto.LeaveDays;
+import com.project.pms.leaveservice.entity.Leave;
+import com.project.pms.leaveservice.repository.LeaveRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class LeaveServiceTest {
+
+    private final LeaveRepository leaveRepository = mock(LeaveRepository.class);
+    private final LeaveService leaveService = new LeaveService();
+
+    @BeforeEach
+    void setUp() {
+        when(leaveRepository.findSpansByStatus(Leave.LeaveStatus.APPROVED)).thenReturn(List.of(
+                leave(1, 10, "2024-04-28", "2024-05-02", Leave.LeaveType.PAID),
+                leave(2, 10, "2024-05-10", "2024-05-10", Leave.LeaveType.UNPAID),
+                leave(3, 11, "2024-05-30", "2024-06-03", Leave.LeaveType.UNPAID),
+                leave(4, 12, "2024-06-01", "2024-06-05", Leave.LeaveType.PAID),
+                leave(5, 13, "2024-05-20", "2024-05-15", Leave.LeaveType.PAID)));
+        ReflectionTestUtils.setField(leaveService, "leaveRepository", leaveRepository);
+        leaveService.reloadApprovedLeaves();
+    }
+
+    @Test
+    void foldsApprovedLeavesIntoMonthBitsetsByType() {
+        assertThat(leaveService.getLeaveDays(YearMonth.of(2024, 5), null)).containsExactly(
+                new LeaveDays(10L, 0b11L, 1L << 9),
+                new LeaveDays(11L, 0L, 0b11L << 29));
+        assertThat(leaveService.getLeaveDays(YearMonth.of(2024, 5), 11L)).containsExactly(
+                new LeaveDays(11L, 0L, 0b11L << 29));
+        assertThat(leaveService.getLeaveDays(YearMonth.of(2024, 5), 13L)).isEmpty();
+    }
+
+    @Test
+    void leaveEndingBeforeItStartsIsRejected() {
+        Leave leave = new Leave();
+        leave.setStartDate(LocalDate.of(2024, 5, 20));
+        leave.setEndDate(LocalDate.of(2024, 5, 15));
+
+        assertThatThrownBy(() -> leaveService.applyForLeave(13L, leave))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(leaveRepository, never()).save(any());
+    }
+
+    private static ApprovedLeave leave(long leaveId, long employeeId, String start, String end, Leave.LeaveType type) {
+        return new ApprovedLeave(leaveId, employeeId, LocalDate.parse(start), LocalDate.parse(end), type);
+    }
+}
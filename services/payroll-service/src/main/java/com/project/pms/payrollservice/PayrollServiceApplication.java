@@ -1,14 +1,40 @@
 package com.project.pms.payrollservice;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.pms.payrollservice.config.VirtualThreads;
+import com.project.pms.payrollservice.service.PayrollCalculator;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableScheduling
 public class PayrollServiceApplication {
 
     public static void main(String[] args) {
@@ -17,7 +43,69 @@ public class PayrollServiceApplication {
 
     @Bean
     @LoadBalanced
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public WebClient.Builder loadBalancedWebClientBuilder(ObjectMapper objectMapper,
+                                                          ObjectProvider<ObservationRegistry> observationRegistry,
+                                                          @Value("${payroll.clients.max-connections:200}") int maxConnections,
+                                                          @Value("${payroll.clients.connect-timeout:1s}") Duration connectTimeout) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("payroll-clients")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
+        return WebClient.builder()
+                .observationRegistry(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                });
+    }
+
+    @Bean
+    public ObservedAspect observedAspect(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new ObservedAspect(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+
+    @Bean
+    public PayrollCalculator payrollCalculator(@Value("${payroll.tax.slabs:" + PayrollCalculator.DEFAULT_SLABS + "}") String taxSlabs) {
+        return PayrollCalculator.fromSlabs(taxSlabs);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService payrollRunExecutor(@Value("${payroll.run.threads:0}") int threads,
+                                              @Value("${pms.threads.virtual.enabled:false}") boolean virtualThreads) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadFactory threadFactory = virtualThreads
+                ? VirtualThreads.threadFactory("payroll-run-")
+                : new CustomizableThreadFactory("payroll-run-");
+        return Executors.newFixedThreadPool(poolSize, threadFactory);
+    }
+
+    // Simulations are CPU-bound fork/join work, so they get their own pool on platform threads.
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool payrollSimulationPool(@Value("${payroll.simulation.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService payrollJobExecutor(@Value("${payroll.jobs.threads:4}") int threads,
+                                              @Value("${payroll.jobs.queue-capacity:1000}") int queueCapacity,
+                                              @Value("${pms.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadFactory threadFactory = virtualThreads
+                ? VirtualThreads.threadFactory("payroll-job-")
+                : new CustomizableThreadFactory("payroll-job-");
+        // Bounded queue with the default abort policy: a full queue rejects new jobs instead of growing.
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler payrollBlockingScheduler(@Value("${pms.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return Schedulers.fromExecutorService(VirtualThreads.newThreadPerTaskExecutor("payroll-db-"), "payroll-db");
+        }
+        return Schedulers.boundedElastic();
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.project.pms.payrollservice.client;
+
+import com.project.pms.payrollservice.dto.Department;
+import com.project.pms.payrollservice.dto.Position;
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+@Component
+public class DepartmentClient {
+
+    private static final String SERVICE_NAME = "department-service";
+
+    @Autowired
+    @LoadBalanced
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private ResiliencePolicies resiliencePolicies;
+
+    private WebClient webClient;
+    private ResiliencePolicy policy;
+
+    @PostConstruct
+    void init() {
+        webClient = webClientBuilder.clone().baseUrl("http://" + SERVICE_NAME).build();
+        policy = resiliencePolicies.forService(SERVICE_NAME);
+    }
+
+    public Mono<Position> getPosition(Long positionId) {
+        return policy.apply(webClient.get()
+                .uri("/api/positions/{id}", positionId)
+                .retrieve()
+                .bodyToMono(Position.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty()));
+    }
+
+    public Mono<List<Position>> getPositions(Collection<? extends Long> positionIds) {
+        return policy.apply(webClient.post()
+                .uri("/api/positions/batch")
+                .bodyValue(positionIds)
+                .retrieve()
+                .bodyToFlux(Position.class)
+                .collectList());
+    }
+
+    public Mono<List<Position>> getAllPositions() {
+        return policy.apply(webClient.get()
+                .uri("/api/positions")
+                .retrieve()
+                .bodyToFlux(Position.class)
+                .collectList());
+    }
+
+    public Mono<List<Department>> getAllDepartments() {
+        return policy.apply(webClient.get()
+                .uri("/api/departments")
+                .retrieve()
+                .bodyToFlux(Department.class)
+                .collectList());
+    }
+}
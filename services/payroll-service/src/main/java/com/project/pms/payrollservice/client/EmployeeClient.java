@@ -0,0 +1,59 @@
+package com.project.pms.payrollservice.client;
+
+import com.project.pms.payrollservice.dto.Employee;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+@Component
+public class EmployeeClient {
+
+    private static final String SERVICE_NAME = "employee-service";
+
+    @Autowired
+    @LoadBalanced
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private ResiliencePolicies resiliencePolicies;
+
+    @Value("${payroll.clients.employee-service.stream-timeout:5m}")
+    private Duration streamTimeout;
+
+    private WebClient webClient;
+    private ResiliencePolicy policy;
+
+    @PostConstruct
+    void init() {
+        webClient = webClientBuilder.clone().baseUrl("http://" + SERVICE_NAME).build();
+        policy = resiliencePolicies.forService(SERVICE_NAME);
+    }
+
+    public Mono<Employee> getEmployee(Long employeeId) {
+        return policy.apply(webClient.get()
+                .uri("/api/employees/{id}", employeeId)
+                .retrieve()
+                .bodyToMono(Employee.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty()));
+    }
+
+    public Mono<List<Employee>> getEmployees(Long departmentId) {
+        return policy.apply(webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/employees/stream")
+                        .queryParamIfPresent("departmentId", Optional.ofNullable(departmentId))
+                        .build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .retrieve()
+                .bodyToFlux(Employee.class)
+                .collectList(), streamTimeout);
+    }
+}
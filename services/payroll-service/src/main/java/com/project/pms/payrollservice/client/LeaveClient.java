@@ -0,0 +1,46 @@
+package com.project.pms.payrollservice.client;
+
+import com.project.pms.payrollservice.dto.LeaveDays;
+import jakarta.annotation.PostConstruct;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@Component
+public class LeaveClient {
+
+    private static final String SERVICE_NAME = "leave-service";
+
+    @Autowired
+    @LoadBalanced
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private ResiliencePolicies resiliencePolicies;
+
+    private WebClient webClient;
+    private ResiliencePolicy policy;
+
+    @PostConstruct
+    void init() {
+        webClient = webClientBuilder.clone().baseUrl("http://" + SERVICE_NAME).build();
+        policy = resiliencePolicies.forService(SERVICE_NAME);
+    }
+
+    /** Approved leave days of {@code month} for one employee, or for everyone when {@code employeeId} is null. */
+    public Mono<List<LeaveDays>> getLeaveDays(YearMonth month, Long employeeId) {
+        return policy.apply(webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/leaves/days")
+                        .queryParam("month", month)
+                        .queryParamIfPresent("employeeId", Optional.ofNullable(employeeId))
+                        .build())
+                .retrieve()
+                .bodyToFlux(LeaveDays.class)
+                .collectList());
+    }
+}
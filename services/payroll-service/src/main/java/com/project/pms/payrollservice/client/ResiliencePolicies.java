@@ -0,0 +1,69 @@
+package com.project.pms.payrollservice.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ResiliencePolicies implements MeterBinder {
+
+    private static final String PREFIX = "payroll.clients.";
+
+    @Autowired
+    private Environment environment;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+    public ResiliencePolicy forService(String serviceName) {
+        String prefix = PREFIX + serviceName + ".";
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(serviceName, CircuitBreakerConfig.custom()
+                .slidingWindowSize(property(prefix + "circuit-breaker.sliding-window-size", Integer.class, 20))
+                .failureRateThreshold(property(prefix + "circuit-breaker.failure-rate-threshold", Float.class, 50f))
+                .waitDurationInOpenState(property(prefix + "circuit-breaker.wait-in-open-state", Duration.class,
+                        Duration.ofSeconds(10)))
+                .build());
+
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(serviceName, BulkheadConfig.custom()
+                .maxConcurrentCalls(property(prefix + "max-concurrent-calls", Integer.class, 50))
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        return new ResiliencePolicy(
+                property(prefix + "timeout", Duration.class, Duration.ofSeconds(2)),
+                bulkhead,
+                circuitBreaker,
+                property(prefix + "retries", Integer.class, 2),
+                property(prefix + "retry-backoff", Duration.class, Duration.ofMillis(100)));
+    }
+
+    public CircuitBreakerRegistry getCircuitBreakerRegistry() {
+        return circuitBreakerRegistry;
+    }
+
+    public BulkheadRegistry getBulkheadRegistry() {
+        return bulkheadRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(registry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(registry);
+    }
+
+    private <T> T property(String key, Class<T> type, T defaultValue) {
+        return environment.getProperty(key, type, defaultValue);
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.pms.payrollservice.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import java.time.Duration;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+/**
+ * Timeout, bulkhead, circuit breaker and jittered retries for calls to one downstream service.
+ * Every retry attempt passes through the bulkhead and circuit breaker again, and an open
+ * breaker or a full bulkhead fails the call immediately instead of being retried.
+ */
+public class ResiliencePolicy {
+
+    private final Duration timeout;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBackoffSpec retry;
+
+    public ResiliencePolicy(Duration timeout, Bulkhead bulkhead, CircuitBreaker circuitBreaker,
+                            int maxRetries, Duration retryBackoff) {
+        this.timeout = timeout;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.retry = Retry.backoff(maxRetries, retryBackoff)
+                .jitter(0.5)
+                .filter(ResiliencePolicy::isRetryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    public <T> Mono<T> apply(Mono<T> call) {
+        return apply(call, timeout);
+    }
+
+    public <T> Mono<T> apply(Mono<T> call, Duration callTimeout) {
+        return call.timeout(callTimeout)
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(retry);
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof CallNotPermittedException || error instanceof BulkheadFullException) {
+            return false;
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return true;
+    }
+}
@@ -1,17 +1,50 @@
 package com.project.pms.payrollservice.controller;
 
+import com.project.pms.payrollservice.dto.ArchiveSegment;
+import com.project.pms.payrollservice.dto.KeysetPage;
+import com.project.pms.payrollservice.dto.PayrollJob;
+import com.project.pms.payrollservice.dto.PayrollJobRequest;
+import com.project.pms.payrollservice.dto.PayrollRun;
+import com.project.pms.payrollservice.dto.PayrollRunRequest;
+import com.project.pms.payrollservice.dto.PayrollSimulation;
+import com.project.pms.payrollservice.dto.Payslip;
+import com.project.pms.payrollservice.dto.SimulationRequest;
 import com.project.pms.payrollservice.entity.Payroll;
+import com.project.pms.payrollservice.service.PayrollArchiveService;
+import com.project.pms.payrollservice.service.PayrollExportService;
+import com.project.pms.payrollservice.service.PayrollJobService;
+import com.project.pms.payrollservice.service.PayrollProjectionService;
+import com.project.pms.payrollservice.service.PayrollRunService;
 import com.project.pms.payrollservice.service.PayrollService;
+import com.project.pms.payrollservice.service.PayrollSimulationService;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/payroll")
@@ -20,20 +53,175 @@ public class PayrollController {
     @Autowired
     private PayrollService payrollService;
 
+    @Autowired
+    private PayrollRunService payrollRunService;
+
+    @Autowired
+    private PayrollJobService payrollJobService;
+
+    @Autowired
+    private PayrollExportService payrollExportService;
+
+    @Autowired
+    private PayrollProjectionService payrollProjectionService;
+
+    @Autowired
+    private PayrollSimulationService payrollSimulationService;
+
+    @Autowired
+    private PayrollArchiveService payrollArchiveService;
+
     @PostMapping(value = "/generate/{employeeId}")
-    public ResponseEntity<Payroll> generatePayroll(@PathVariable("employeeId") Long employeeId, @RequestBody(required = false) Map<String, Double> payload) {
+    public Mono<ResponseEntity<Payroll>> generatePayroll(@PathVariable("employeeId") Long employeeId, @RequestBody(required = false) Map<String, Double> payload) {
+        return payrollService.generatePayroll(employeeId, payload)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    System.out.println("Error generating payroll: " + e.getMessage());
+                    if (isDependencyUnavailable(e)) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+                    }
+                    if (e instanceof IllegalStateException) {
+                        // The pay period is archived
+                        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build());
+                    }
+                    return Mono.just(ResponseEntity.notFound().build());
+                });
+    }
+
+    @PostMapping("/jobs/{employeeId}")
+    public ResponseEntity<PayrollJob> submitPayrollJob(@PathVariable Long employeeId,
+                                                       @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                       @RequestBody(required = false) PayrollJobRequest request) {
+        PayrollJobService.Submission submission;
         try {
-            Payroll savedPayroll = payrollService.generatePayroll(employeeId, payload);
-            return ResponseEntity.ok(savedPayroll);
-        } catch (RuntimeException e) {
-            System.out.println("Error generating payroll: " + e.getMessage());
-            return ResponseEntity.notFound().build();
+            submission = payrollJobService.submit(employeeId,
+                    request != null ? request : new PayrollJobRequest(), idempotencyKey);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
         }
+        PayrollJob job = submission.job();
+        return ResponseEntity.status(submission.created() ? HttpStatus.ACCEPTED : HttpStatus.OK)
+                .location(URI.create("/api/payroll/jobs/" + job.getJobId()))
+                .header("Idempotency-Key", job.getIdempotencyKey())
+                .body(job);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<PayrollJob> getPayrollJob(@PathVariable String jobId) {
+        return payrollJobService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<List<Payroll>> getPayrollsForEmployee(@PathVariable Long employeeId) {
-        List<Payroll> payrolls = payrollService.getPayrollsForEmployee(employeeId);
-        return ResponseEntity.ok(payrolls);
+    public ResponseEntity<List<Payroll>> getPayrollsForEmployee(@PathVariable Long employeeId,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                @RequestParam(defaultValue = "false") boolean archived) {
+        if (from == null && to == null && !archived) {
+            List<Payroll> payrolls = payrollService.getPayrollsForEmployee(employeeId);
+            return ResponseEntity.ok(payrolls);
+        }
+        LocalDate until = to != null ? to : LocalDate.now();
+        LocalDate since = from != null ? from : until.minusYears(1);
+        if (until.isBefore(since)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(payrollService.getPayrollsForEmployee(employeeId, since, until, archived));
+    }
+
+    @GetMapping("/payslips/{payrollId}")
+    public ResponseEntity<Payslip> getPayslip(@PathVariable Long payrollId) {
+        return payrollProjectionService.getPayslip(payrollId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/register")
+    public ResponseEntity<KeysetPage<Payslip>> getRegisterPage(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                               @RequestParam(required = false) Long departmentId,
+                                                               @RequestParam(required = false) Long after,
+                                                               @RequestParam(defaultValue = "100") int size) {
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(payrollProjectionService.getRegisterPage(from, to, departmentId, after, size));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPayrollRegister(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                       @RequestParam(required = false) Long departmentId,
+                                                                       @RequestParam(defaultValue = "true") boolean gzip) {
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!payrollExportService.hasCapacity()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+        String filename = "payroll-register-" + from + "-" + to + (gzip ? ".csv.gz" : ".csv");
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> {
+                    // Another export took the last slot after the check above; nothing is written yet.
+                    if (!payrollExportService.writeCsv(from, to, departmentId, gzip, out)) {
+                        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many payroll exports running");
+                    }
+                });
+    }
+
+    @PostMapping("/runs")
+    public ResponseEntity<PayrollRun> startPayrollRun(@RequestBody(required = false) PayrollRunRequest request) {
+        PayrollRun run = payrollRunService.startRun(request != null ? request : new PayrollRunRequest());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(run);
+    }
+
+    @PostMapping("/simulations")
+    public ResponseEntity<PayrollSimulation> simulate(@RequestBody(required = false) SimulationRequest request) {
+        try {
+            return ResponseEntity.ok(payrollSimulationService.simulate(
+                    request != null ? request : new SimulationRequest()));
+        } catch (IllegalArgumentException e) {
+            // Malformed taxSlabs
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/archive")
+    public List<ArchiveSegment> getArchiveSegments() {
+        return payrollArchiveService.getSegments();
+    }
+
+    @PostMapping("/archive/run")
+    public ResponseEntity<List<ArchiveSegment>> archiveColdPeriods() {
+        try {
+            return ResponseEntity.ok(payrollArchiveService.archiveColdPeriods());
+        } catch (IllegalStateException e) {
+            // Payrolls were added to a period while it was being archived
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @GetMapping("/runs")
+    public Collection<PayrollRun> getPayrollRuns() {
+        return payrollRunService.getRuns();
+    }
+
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<PayrollRun> getPayrollRun(@PathVariable String runId) {
+        return payrollRunService.getRun(runId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static boolean isDependencyUnavailable(Throwable error) {
+        return error instanceof CallNotPermittedException
+                || error instanceof BulkheadFullException
+                || error instanceof TimeoutException
+                || error instanceof WebClientRequestException;
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.project.pms.payrollservice.controller;
+
+import com.project.pms.payrollservice.dto.ProjectionStatus;
+import com.project.pms.payrollservice.service.PayrollProjectionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Status of the read model. Change events and rebuilds go to {@link PayrollProjectionSyncController}. */
+@RestController
+@RequestMapping("/api/payroll/projection")
+public class PayrollProjectionController {
+
+    @Autowired
+    private PayrollProjectionService projectionService;
+
+    @GetMapping
+    public ProjectionStatus getStatus() {
+        return projectionService.getStatus();
+    }
+}
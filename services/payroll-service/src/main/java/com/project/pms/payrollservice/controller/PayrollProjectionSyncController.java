@@ -0,0 +1,76 @@
+package com.project.pms.payrollservice.controller;
+
+import com.project.pms.payrollservice.dto.Department;
+import com.project.pms.payrollservice.dto.Employee;
+import com.project.pms.payrollservice.dto.Position;
+import com.project.pms.payrollservice.dto.ProjectionStatus;
+import com.project.pms.payrollservice.service.PayrollProjectionService;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Change events from employee-service and department-service, and rebuilds of the read model.
+ * Served under {@code /internal}, which the gateway does not route: the publishers call payroll
+ * instances directly.
+ */
+@RestController
+@RequestMapping("/internal/payroll/projection")
+public class PayrollProjectionSyncController {
+
+    @Autowired
+    private PayrollProjectionService projectionService;
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ProjectionStatus> rebuild() {
+        boolean started = projectionService.startRebuild();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(projectionService.getStatus());
+    }
+
+    @PutMapping("/employees")
+    public ResponseEntity<Void> employeesChanged(@RequestBody List<Employee> employees) {
+        projectionService.employeesChanged(employees);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/employees/{employeeId}")
+    public ResponseEntity<Void> employeeDeleted(@PathVariable Long employeeId) {
+        projectionService.employeeDeleted(employeeId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/positions/{positionId}")
+    public ResponseEntity<Void> positionChanged(@PathVariable Long positionId, @RequestBody Position position) {
+        position.setPositionId(positionId);
+        projectionService.positionChanged(position);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/positions/{positionId}")
+    public ResponseEntity<Void> positionDeleted(@PathVariable Long positionId) {
+        projectionService.positionDeleted(positionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/departments/{departmentId}")
+    public ResponseEntity<Void> departmentChanged(@PathVariable Long departmentId, @RequestBody Department department) {
+        department.setDepartmentId(departmentId);
+        projectionService.departmentChanged(department);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/departments/{departmentId}")
+    public ResponseEntity<Void> departmentDeleted(@PathVariable Long departmentId) {
+        projectionService.departmentDeleted(departmentId);
+        return ResponseEntity.noContent().build();
+    }
+}
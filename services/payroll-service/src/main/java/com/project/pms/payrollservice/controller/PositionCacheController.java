@@ -0,0 +1,21 @@
+package com.project.pms.payrollservice.controller;
+
+import com.project.pms.payrollservice.dto.CacheStats;
+import com.project.pms.payrollservice.service.PositionCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/payroll/cache/positions")
+public class PositionCacheController {
+
+    @Autowired
+    private PositionCache positionCache;
+
+    @GetMapping("/stats")
+    public CacheStats getStats() {
+        return positionCache.getStats();
+    }
+}
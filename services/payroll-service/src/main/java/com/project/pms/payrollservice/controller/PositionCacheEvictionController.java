@@ -0,0 +1,33 @@
+package com.project.pms.payrollservice.controller;
+
+import com.project.pms.payrollservice.service.PositionCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Position cache invalidation, called by department-service on each payroll instance. Served under
+ * {@code /internal}, which the gateway does not route, so clients cannot flush the cache.
+ */
+@RestController
+@RequestMapping("/internal/payroll/cache/positions")
+public class PositionCacheEvictionController {
+
+    @Autowired
+    private PositionCache positionCache;
+
+    @DeleteMapping("/{positionId}")
+    public ResponseEntity<Void> evictPosition(@PathVariable Long positionId) {
+        positionCache.evict(positionId);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> evictAllPositions() {
+        positionCache.evictAll();
+        return ResponseEntity.ok().build();
+    }
+}
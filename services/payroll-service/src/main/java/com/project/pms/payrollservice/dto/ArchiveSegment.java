@@ -0,0 +1,18 @@
+package com.project.pms.payrollservice.dto;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One archived pay period: its payrolls were moved from the database into {@code fileName}. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveSegment {
+    private YearMonth period;
+    private String fileName;
+    private long rowCount;
+    private Instant archivedAt;
+}
@@ -0,0 +1,10 @@
+package com.project.pms.payrollservice.dto;
+
+import lombok.Data;
+
+/** One employee's attended days of a month; bit {@code d - 1} is set when day {@code d} was attended. */
+@Data
+public class AttendanceDays {
+    private Long employeeId;
+    private long days;
+}
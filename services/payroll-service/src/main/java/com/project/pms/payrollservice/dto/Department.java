@@ -0,0 +1,9 @@
+package com.project.pms.payrollservice.dto;
+
+import lombok.Data;
+
+@Data
+public class Department {
+    private Long departmentId;
+    private String departmentName;
+}
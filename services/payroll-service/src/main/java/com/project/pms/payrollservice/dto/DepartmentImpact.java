@@ -0,0 +1,15 @@
+package com.project.pms.payrollservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DepartmentImpact {
+    private Long departmentId;
+    private String departmentName;
+    private long employees;
+    private PayrollTotals baseline;
+    private PayrollTotals simulated;
+    private PayrollTotals delta;
+}
@@ -0,0 +1,11 @@
+package com.project.pms.payrollservice.dto;
+
+import lombok.Data;
+
+/** One employee's approved leave in a month, as day bitsets laid out like {@link AttendanceDays}. */
+@Data
+public class LeaveDays {
+    private Long employeeId;
+    private long paidDays;
+    private long unpaidDays;
+}
@@ -0,0 +1,71 @@
+package com.project.pms.payrollservice.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.Getter;
+
+@Getter
+public class PayrollJob {
+
+    public enum JobStatus {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String jobId;
+    private final String idempotencyKey;
+    private final Long employeeId;
+    private final LocalDate payDate;
+    private final LocalDate payrollPeriod;
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile Long payrollId;
+    private final Instant submittedAt = Instant.now();
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    public PayrollJob(String jobId, String idempotencyKey, Long employeeId, LocalDate payDate, LocalDate payrollPeriod) {
+        this.jobId = jobId;
+        this.idempotencyKey = idempotencyKey;
+        this.employeeId = employeeId;
+        this.payDate = payDate;
+        this.payrollPeriod = payrollPeriod;
+    }
+
+    public void start() {
+        this.startedAt = Instant.now();
+        this.status = JobStatus.RUNNING;
+    }
+
+    public void complete(Long payrollId) {
+        this.payrollId = payrollId;
+        this.finishedAt = Instant.now();
+        this.status = JobStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = JobStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+
+    public long getQueuedMillis() {
+        Instant end = startedAt != null ? startedAt : Instant.now();
+        return Duration.between(submittedAt, end).toMillis();
+    }
+
+    public long getElapsedMillis() {
+        if (startedAt == null) {
+            return 0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        return Duration.between(startedAt, end).toMillis();
+    }
+}
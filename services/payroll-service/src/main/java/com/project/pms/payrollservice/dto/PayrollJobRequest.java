@@ -0,0 +1,10 @@
+package com.project.pms.payrollservice.dto;
+
+import java.time.LocalDate;
+import lombok.Data;
+
+@Data
+public class PayrollJobRequest {
+    private LocalDate payDate;
+    private Double deductions;
+}
@@ -0,0 +1,103 @@
+package com.project.pms.payrollservice.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+@Getter
+public class PayrollRun {
+
+    public enum RunStatus {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String runId;
+    private final LocalDate payDate;
+    private final Long departmentId;
+    private volatile RunStatus status = RunStatus.QUEUED;
+    private volatile int totalEmployees;
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final Instant submittedAt = Instant.now();
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    public PayrollRun(String runId, LocalDate payDate, Long departmentId) {
+        this.runId = runId;
+        this.payDate = payDate;
+        this.departmentId = departmentId;
+    }
+
+    public void start(int totalEmployees) {
+        this.totalEmployees = totalEmployees;
+        this.startedAt = Instant.now();
+        this.status = RunStatus.RUNNING;
+    }
+
+    public void complete() {
+        this.finishedAt = Instant.now();
+        this.status = RunStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = RunStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == RunStatus.COMPLETED || status == RunStatus.FAILED;
+    }
+
+    public int getProcessed() {
+        return processed.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public int getSkipped() {
+        return skipped.get();
+    }
+
+    public void recordProcessed(int count) {
+        processed.addAndGet(count);
+    }
+
+    public void recordFailed(int count) {
+        failed.addAndGet(count);
+    }
+
+    /** Employees who already had a payroll for the period and were left as they were. */
+    public void recordSkipped(int count) {
+        skipped.addAndGet(count);
+    }
+
+    public double getProgressPercent() {
+        if (totalEmployees == 0) {
+            return status == RunStatus.COMPLETED ? 100.0 : 0.0;
+        }
+        return (processed.get() + failed.get() + skipped.get()) * 100.0 / totalEmployees;
+    }
+
+    public long getElapsedMillis() {
+        if (startedAt == null) {
+            return 0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        return Duration.between(startedAt, end).toMillis();
+    }
+
+    public double getEmployeesPerSecond() {
+        long elapsed = getElapsedMillis();
+        return elapsed == 0 ? 0.0 : processed.get() * 1000.0 / elapsed;
+    }
+}
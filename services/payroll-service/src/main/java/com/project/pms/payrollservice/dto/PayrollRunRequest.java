@@ -0,0 +1,11 @@
+package com.project.pms.payrollservice.dto;
+
+import java.time.LocalDate;
+import lombok.Data;
+
+@Data
+public class PayrollRunRequest {
+    private LocalDate payDate;
+    private Long departmentId;
+    private Double deductions;
+}
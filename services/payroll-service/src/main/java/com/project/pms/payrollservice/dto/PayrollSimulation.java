@@ -0,0 +1,17 @@
+package com.project.pms.payrollservice.dto;
+
+import java.util.List;
+import lombok.Data;
+
+/** Monthly payroll totals before and after a {@link SimulationRequest}, overall and per department. */
+@Data
+public class PayrollSimulation {
+    private long employees;
+    private long unpriced;
+    private PayrollTotals baseline;
+    private PayrollTotals simulated;
+    private PayrollTotals delta;
+    private List<DepartmentImpact> departments;
+    private long snapshotMillis;
+    private long computeMillis;
+}
@@ -0,0 +1,12 @@
+package com.project.pms.payrollservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PayrollTotals {
+    private double gross;
+    private double tax;
+    private double net;
+}
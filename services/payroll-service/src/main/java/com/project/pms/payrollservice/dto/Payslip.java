@@ -0,0 +1,22 @@
+package com.project.pms.payrollservice.dto;
+
+import java.time.LocalDate;
+import lombok.Data;
+
+/** A payroll with the employee, department and position details from the local read model. */
+@Data
+public class Payslip {
+    private Long payrollId;
+    private Long employeeId;
+    private String employeeName;
+    private Long departmentId;
+    private String departmentName;
+    private Long positionId;
+    private String positionTitle;
+    private LocalDate payrollPayDate;
+    private LocalDate payrollPeriod;
+    private Double payrollBaseSalary;
+    private Double payrollExperienceBonus;
+    private Double payrollDeductions;
+    private Double payrollTotalPay;
+}
@@ -0,0 +1,16 @@
+package com.project.pms.payrollservice.dto;
+
+import java.time.Instant;
+import lombok.Data;
+
+@Data
+public class ProjectionStatus {
+    private long employees;
+    private long positions;
+    private long departments;
+    private long eventsApplied;
+    private boolean rebuilding;
+    private Instant lastRebuildAt;
+    private long lastRebuildMillis;
+    private String lastRebuildError;
+}
@@ -0,0 +1,16 @@
+package com.project.pms.payrollservice.dto;
+
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Hypothetical changes to price. Position overrides replace only the salary fields they set;
+ * {@code taxSlabs} uses the {@code payroll.tax.slabs} format and replaces the current slabs.
+ */
+@Data
+public class SimulationRequest {
+    private List<Position> positions;
+    private String taxSlabs;
+    private Long departmentId;
+    private Double deductions;
+}
@@ -1,16 +1,26 @@
 package com.project.pms.payrollservice.entity;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Date;
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
-@Table(name = "payrolls")
+@Table(name = "payrolls",
+        indexes = {
+                @Index(name = "idx_payrolls_employee_pay_date", columnList = "employeeId, payrollPayDate"),
+                @Index(name = "idx_payrolls_pay_date", columnList = "payrollPayDate")
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_payrolls_employee_period",
+                columnNames = {"employeeId", "payrollPeriod"}))
 @Data
 public class Payroll {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "payroll_id")
+    @TableGenerator(name = "payroll_id", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "payrolls", allocationSize = 50)
     private Long payrollId;
 
     @Column(nullable = false)
@@ -20,6 +30,10 @@ public class Payroll {
     @Column(nullable = false)
     private Date payrollPayDate;
 
+    /** First day of the month the payroll pays for; at most one payroll per employee and period. */
+    @Column(nullable = false)
+    private LocalDate payrollPeriod;
+
     @Column(nullable = false)
     private Double payrollBaseSalary;
 
@@ -31,4 +45,17 @@ public class Payroll {
 
     @Column(nullable = false)
     private Double payrollTotalPay;
-}
\ No newline at end of file
+
+    /** Working days of the period and how many of them were paid; null when pay was not prorated. */
+    private Integer payrollWorkingDays;
+
+    private Integer payrollPayableDays;
+
+    public static LocalDate periodOf(LocalDate payDate) {
+        return payDate.withDayOfMonth(1);
+    }
+
+    public static LocalDate periodOf(Date payDate) {
+        return periodOf(new java.sql.Date(payDate.getTime()).toLocalDate());
+    }
+}
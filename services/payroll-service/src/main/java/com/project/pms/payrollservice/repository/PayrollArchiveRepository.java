@@ -0,0 +1,133 @@
+package com.project.pms.payrollservice.repository;
+
+import com.project.pms.payrollservice.dto.ArchiveSegment;
+import io.micrometer.observation.annotation.Observed;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class PayrollArchiveRepository {
+
+    public static final String CSV_HEADER = "payroll_id,employee_id,pay_date,pay_period,base_salary,experience_bonus,"
+            + "deductions,total_pay,working_days,payable_days\n";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${payroll.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Observed(name = "pms.repository.batch", contextualName = "payroll-archive-segments")
+    public List<ArchiveSegment> findSegments() {
+        return jdbcTemplate.query("SELECT payroll_period, file_name, row_count, archived_at"
+                + " FROM payroll_archive_segments ORDER BY payroll_period", (rs, rowNum) -> new ArchiveSegment(
+                        YearMonth.from(rs.getDate(1).toLocalDate()), rs.getString(2), rs.getLong(3),
+                        rs.getTimestamp(4).toInstant()));
+    }
+
+    @Observed(name = "pms.repository.batch", contextualName = "payroll-archive-is-archived")
+    public boolean isArchived(LocalDate period) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payroll_archive_segments WHERE payroll_period = ?",
+                Long.class, Date.valueOf(period));
+        return count != null && count > 0;
+    }
+
+    /**
+     * Whether the period is archived, read with a lock that holds until the transaction ends: on
+     * the catalog row, or (under MariaDB's default REPEATABLE READ) on the gap where it would go,
+     * so {@link #commitSegment} cannot list the period meanwhile.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Observed(name = "pms.repository.batch", contextualName = "payroll-archive-lock-period")
+    public boolean lockPeriod(LocalDate period) {
+        return !jdbcTemplate.queryForList("SELECT payroll_period FROM payroll_archive_segments WHERE payroll_period = ?"
+                + " FOR UPDATE", Date.class, Date.valueOf(period)).isEmpty();
+    }
+
+    // A payroll's period is the month of its pay date, so period filters below go by pay date
+    // and use idx_payrolls_pay_date.
+    @Observed(name = "pms.repository.batch", contextualName = "payroll-archive-oldest-pay-date")
+    public Optional<LocalDate> findOldestPayDateBefore(LocalDate cutoff) {
+        Date oldest = jdbcTemplate.queryForObject("SELECT MIN(payroll_pay_date) FROM payrolls WHERE payroll_pay_date < ?",
+                Date.class, Date.valueOf(cutoff));
+        return Optional.ofNullable(oldest).map(Date::toLocalDate);
+    }
+
+    /** Writes the period's payrolls as CSV from a forward-only cursor. Returns the number of rows written. */
+    @Observed(name = "pms.repository.batch", contextualName = "payroll-archive-write-period")
+    public long writePeriod(YearMonth period, Writer out) throws IOException {
+        out.write(CSV_HEADER);
+        StringBuilder line = new StringBuilder(128);
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement("SELECT payroll_id, employee_id, payroll_pay_date,"
+                                + " payroll_period, payroll_base_salary, payroll_experience_bonus, payroll_deductions,"
+                                + " payroll_total_pay, payroll_working_days, payroll_payable_days FROM payrolls"
+                                + " WHERE payroll_pay_date BETWEEN ? AND ? ORDER BY payroll_id",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                ps.setDate(1, Date.valueOf(period.atDay(1)));
+                ps.setDate(2, Date.valueOf(period.atEndOfMonth()));
+                return ps;
+            }, (ResultSet rs) -> {
+                line.setLength(0);
+                line.append(rs.getLong(1)).append(',')
+                        .append(rs.getLong(2)).append(',')
+                        .append(rs.getDate(3)).append(',')
+                        .append(rs.getDate(4)).append(',')
+                        .append(rs.getDouble(5)).append(',')
+                        .append(rs.getDouble(6)).append(',')
+                        .append(rs.getDouble(7)).append(',')
+                        .append(rs.getDouble(8)).append(',');
+                appendDays(line, rs.getObject(9, Integer.class)).append(',');
+                appendDays(line, rs.getObject(10, Integer.class)).append('\n');
+                try {
+                    out.append(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return rows[0];
+    }
+
+    /**
+     * Lists the period in the catalog and deletes its payrolls in one transaction. Fails, and so
+     * keeps the payrolls, when one was added to the period after its file was written.
+     */
+    @Transactional
+    @Observed(name = "pms.repository.batch", contextualName = "payroll-archive-commit-segment")
+    public void commitSegment(YearMonth period, String fileName, long rowCount, Timestamp archivedAt) {
+        jdbcTemplate.update("INSERT INTO payroll_archive_segments (payroll_period, file_name, row_count, archived_at)"
+                + " VALUES (?, ?, ?, ?)", Date.valueOf(period.atDay(1)), fileName, rowCount, archivedAt);
+        int deleted = jdbcTemplate.update("DELETE FROM payrolls WHERE payroll_pay_date BETWEEN ? AND ?",
+                Date.valueOf(period.atDay(1)), Date.valueOf(period.atEndOfMonth()));
+        if (deleted != rowCount) {
+            throw new IllegalStateException("Payrolls for " + period + " changed while they were archived: wrote "
+                    + rowCount + " rows, found " + deleted);
+        }
+    }
+
+    private static StringBuilder appendDays(StringBuilder line, Integer days) {
+        return days != null ? line.append(days) : line;
+    }
+}
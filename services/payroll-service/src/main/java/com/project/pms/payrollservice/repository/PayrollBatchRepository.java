@@ -0,0 +1,73 @@
+package com.project.pms.payrollservice.repository;
+
+import com.project.pms.payrollservice.entity.Payroll;
+import io.micrometer.observation.annotation.Observed;
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+
+@Repository
+public class PayrollBatchRepository {
+
+    // A payroll already generated for the employee and period is left as it is, so re-running a
+    // period only fills in the employees that are still missing.
+    private static final String INSERT_PAYROLL =
+            "INSERT INTO payrolls (payroll_id, employee_id, payroll_pay_date, payroll_period, payroll_base_salary, "
+                    + "payroll_experience_bonus, payroll_deductions, payroll_total_pay, payroll_working_days, "
+                    + "payroll_payable_days) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE payroll_id = payroll_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdGeneratorRepository idGeneratorRepository;
+
+    @Transactional
+    @Observed(name = "pms.repository.batch", contextualName = "payroll-batch-insert")
+    public void insertAll(List<Payroll> payrolls) {
+        if (payrolls.isEmpty()) {
+            return;
+        }
+        long id = idGeneratorRepository.reserve("payrolls", payrolls.size());
+        for (Payroll payroll : payrolls) {
+            payroll.setPayrollId(id++);
+        }
+        jdbcTemplate.batchUpdate(INSERT_PAYROLL, payrolls, payrolls.size(), (ps, payroll) -> {
+            ps.setLong(1, payroll.getPayrollId());
+            ps.setLong(2, payroll.getEmployeeId());
+            ps.setDate(3, new Date(payroll.getPayrollPayDate().getTime()));
+            ps.setDate(4, Date.valueOf(payroll.getPayrollPeriod()));
+            ps.setDouble(5, payroll.getPayrollBaseSalary());
+            ps.setDouble(6, payroll.getPayrollExperienceBonus());
+            ps.setDouble(7, payroll.getPayrollDeductions());
+            ps.setDouble(8, payroll.getPayrollTotalPay());
+            ps.setObject(9, payroll.getPayrollWorkingDays(), Types.INTEGER);
+            ps.setObject(10, payroll.getPayrollPayableDays(), Types.INTEGER);
+        });
+    }
+
+    /** The employees among {@code employeeIds} who already have a payroll for {@code period}. */
+    @Observed(name = "pms.repository.batch", contextualName = "payroll-batch-paid-employees")
+    public Set<Long> findPaidEmployeeIds(LocalDate period, List<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Object> args = new ArrayList<>(employeeIds.size() + 1);
+        args.add(Date.valueOf(period));
+        args.addAll(employeeIds);
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT employee_id FROM payrolls WHERE payroll_period = ?"
+                        + " AND employee_id IN (" + String.join(",", Collections.nCopies(employeeIds.size(), "?")) + ")",
+                Long.class, args.toArray()));
+    }
+}
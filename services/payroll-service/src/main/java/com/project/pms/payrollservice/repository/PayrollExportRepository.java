@@ -0,0 +1,112 @@
+package com.project.pms.payrollservice.repository;
+
+import io.micrometer.observation.annotation.Observed;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes the payroll register as CSV straight from a forward-only JDBC cursor, one row at a time,
+ * so memory use does not depend on how many rows the range holds. Names and departments come
+ * from the local projection tables, so the export makes no remote calls.
+ */
+@Repository
+public class PayrollExportRepository {
+
+    public static final String CSV_HEADER = "payroll_id,employee_id,employee_name,department_id,department_name,"
+            + "position_title,pay_date,pay_period,base_salary,experience_bonus,deductions,total_pay\n";
+
+    private static final String SELECT_REGISTER =
+            "SELECT p.payroll_id, p.employee_id, e.employee_name, e.department_id, d.department_name,"
+                    + " pos.position_title, p.payroll_pay_date, p.payroll_period, p.payroll_base_salary,"
+                    + " p.payroll_experience_bonus, p.payroll_deductions, p.payroll_total_pay"
+                    + " FROM payrolls p"
+                    + " LEFT JOIN payroll_employees e ON e.employee_id = p.employee_id"
+                    + " LEFT JOIN payroll_departments d ON d.department_id = e.department_id"
+                    + " LEFT JOIN payroll_positions pos ON pos.position_id = e.position_id"
+                    + " WHERE p.payroll_pay_date BETWEEN ? AND ?";
+
+    private static final String ORDER = " ORDER BY p.payroll_pay_date, p.payroll_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${payroll.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Writes the header and every payroll paid between {@code from} and {@code to} (inclusive),
+     * optionally only for employees of one department. Returns the number of rows written.
+     */
+    @Observed(name = "pms.repository.batch", contextualName = "payroll-export-cursor")
+    public long writeCsv(LocalDate from, LocalDate to, Long departmentId, Writer out) throws IOException {
+        out.write(CSV_HEADER);
+        String sql = departmentId != null ? SELECT_REGISTER + " AND e.department_id = ?" + ORDER : SELECT_REGISTER + ORDER;
+        StringBuilder line = new StringBuilder(192);
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                ps.setDate(1, Date.valueOf(from));
+                ps.setDate(2, Date.valueOf(to));
+                if (departmentId != null) {
+                    ps.setLong(3, departmentId);
+                }
+                return ps;
+            }, (ResultSet rs) -> {
+                line.setLength(0);
+                line.append(rs.getLong(1)).append(',')
+                        .append(rs.getLong(2)).append(',');
+                appendText(line, rs.getString(3)).append(',');
+                long department = rs.getLong(4);
+                if (!rs.wasNull()) {
+                    line.append(department);
+                }
+                line.append(',');
+                appendText(line, rs.getString(5)).append(',');
+                appendText(line, rs.getString(6)).append(',')
+                        .append(rs.getDate(7)).append(',')
+                        .append(rs.getDate(8)).append(',');
+                appendAmount(line, rs.getBigDecimal(9)).append(',');
+                appendAmount(line, rs.getBigDecimal(10)).append(',');
+                appendAmount(line, rs.getBigDecimal(11)).append(',');
+                appendAmount(line, rs.getBigDecimal(12)).append('\n');
+                try {
+                    out.append(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return rows[0];
+    }
+
+    // Plain notation with cents: a double would print 12345678.9 as 1.23456789E7.
+    private static StringBuilder appendAmount(StringBuilder line, BigDecimal value) {
+        return line.append(value.setScale(2, RoundingMode.HALF_UP).toPlainString());
+    }
+
+    private static StringBuilder appendText(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return line.append(value);
+        }
+        return line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,236 @@
+package com.project.pms.payrollservice.repository;
+
+import com.project.pms.payrollservice.dto.Department;
+import com.project.pms.payrollservice.dto.Employee;
+import com.project.pms.payrollservice.dto.Payslip;
+import com.project.pms.payrollservice.dto.Position;
+import io.micrometer.observation.annotation.Observed;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The payroll-side copy of employee, position and department data, and the payslip and register
+ * queries that join payrolls against it without calling other services.
+ */
+@Repository
+public class PayrollProjectionRepository {
+
+    private static final String UPSERT_EMPLOYEE =
+            "INSERT INTO payroll_employees (employee_id, employee_name, department_id, position_id, synced_at)"
+                    + " VALUES (?, ?, ?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE"
+                    + " employee_name = " + newer("employee_name") + ","
+                    + " department_id = " + newer("department_id") + ","
+                    + " position_id = " + newer("position_id") + ","
+                    + " synced_at = GREATEST(synced_at, VALUES(synced_at))";
+
+    private static final String UPSERT_POSITION =
+            "INSERT INTO payroll_positions (position_id, position_title, base_salary, experience_bonus, synced_at)"
+                    + " VALUES (?, ?, ?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE"
+                    + " position_title = " + newer("position_title") + ","
+                    + " base_salary = " + newer("base_salary") + ","
+                    + " experience_bonus = " + newer("experience_bonus") + ","
+                    + " synced_at = GREATEST(synced_at, VALUES(synced_at))";
+
+    private static final String UPSERT_DEPARTMENT =
+            "INSERT INTO payroll_departments (department_id, department_name, synced_at) VALUES (?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE"
+                    + " department_name = " + newer("department_name") + ","
+                    + " synced_at = GREATEST(synced_at, VALUES(synced_at))";
+
+    private static final String UPSERT_DELETE =
+            "INSERT INTO payroll_projection_deletes (table_name, row_id, deleted_at) VALUES (?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE deleted_at = GREATEST(deleted_at, VALUES(deleted_at))";
+
+    private static final String PAYSLIP_SELECT =
+            "SELECT p.payroll_id, p.employee_id, e.employee_name, e.department_id, d.department_name,"
+                    + " e.position_id, pos.position_title, p.payroll_pay_date, p.payroll_period,"
+                    + " p.payroll_base_salary, p.payroll_experience_bonus, p.payroll_deductions, p.payroll_total_pay"
+                    + " FROM payrolls p"
+                    + " LEFT JOIN payroll_employees e ON e.employee_id = p.employee_id"
+                    + " LEFT JOIN payroll_departments d ON d.department_id = e.department_id"
+                    + " LEFT JOIN payroll_positions pos ON pos.position_id = e.position_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // A rebuild writes a snapshot stamped with its start time; an event applied after that start
+    // is newer than the snapshot for that row and must not be overwritten by it. synced_at is
+    // assigned last, so the comparisons still see the row's old value.
+    private static String newer(String column) {
+        return "CASE WHEN VALUES(synced_at) >= synced_at THEN VALUES(" + column + ") ELSE " + column + " END";
+    }
+
+    @Transactional
+    @Observed(name = "pms.repository.batch", contextualName = "projection-upsert-employees")
+    public void upsertEmployees(List<Employee> employees, Timestamp syncedAt) {
+        jdbcTemplate.batchUpdate(UPSERT_EMPLOYEE, employees, employees.size(), (ps, employee) -> {
+            ps.setLong(1, employee.getEmployeeId());
+            ps.setString(2, employee.getEmployeeName());
+            ps.setObject(3, employee.getDepartmentId());
+            ps.setObject(4, employee.getPositionId());
+            ps.setTimestamp(5, syncedAt);
+        });
+    }
+
+    @Transactional
+    @Observed(name = "pms.repository.batch", contextualName = "projection-upsert-positions")
+    public void upsertPositions(List<Position> positions, Timestamp syncedAt) {
+        jdbcTemplate.batchUpdate(UPSERT_POSITION, positions, positions.size(), (ps, position) -> {
+            ps.setLong(1, position.getPositionId());
+            ps.setString(2, position.getPositionTitle());
+            ps.setDouble(3, position.getPositionBaseSalary() != null ? position.getPositionBaseSalary() : 0.0);
+            ps.setDouble(4, position.getPositionExperienceBonus() != null ? position.getPositionExperienceBonus() : 0.0);
+            ps.setTimestamp(5, syncedAt);
+        });
+    }
+
+    @Transactional
+    @Observed(name = "pms.repository.batch", contextualName = "projection-upsert-departments")
+    public void upsertDepartments(List<Department> departments, Timestamp syncedAt) {
+        jdbcTemplate.batchUpdate(UPSERT_DEPARTMENT, departments, departments.size(), (ps, department) -> {
+            ps.setLong(1, department.getDepartmentId());
+            ps.setString(2, department.getDepartmentName());
+            ps.setTimestamp(3, syncedAt);
+        });
+    }
+
+    @Transactional
+    @Observed(name = "pms.repository.batch", contextualName = "projection-delete-employee")
+    public void deleteEmployee(Long employeeId, Timestamp deletedAt) {
+        delete("payroll_employees", "employee_id", employeeId, deletedAt);
+    }
+
+    @Transactional
+    @Observed(name = "pms.repository.batch", contextualName = "projection-delete-position")
+    public void deletePosition(Long positionId, Timestamp deletedAt) {
+        delete("payroll_positions", "position_id", positionId, deletedAt);
+    }
+
+    @Transactional
+    @Observed(name = "pms.repository.batch", contextualName = "projection-delete-department")
+    public void deleteDepartment(Long departmentId, Timestamp deletedAt) {
+        delete("payroll_departments", "department_id", departmentId, deletedAt);
+    }
+
+    /**
+     * Removes rows that neither the rebuild that started at {@code rebuildStart} nor an event
+     * touched, and rows deleted by an event since then, which the rebuild's snapshot may have
+     * put back. Drops the delete records the rebuild made obsolete.
+     */
+    @Transactional
+    @Observed(name = "pms.repository.batch", contextualName = "projection-delete-synced-before")
+    public void deleteSyncedBefore(Timestamp rebuildStart) {
+        deleteSyncedBefore("payroll_employees", "employee_id", rebuildStart);
+        deleteSyncedBefore("payroll_positions", "position_id", rebuildStart);
+        deleteSyncedBefore("payroll_departments", "department_id", rebuildStart);
+        jdbcTemplate.update("DELETE FROM payroll_projection_deletes WHERE deleted_at < ?", rebuildStart);
+    }
+
+    private void delete(String table, String idColumn, Long id, Timestamp deletedAt) {
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE " + idColumn + " = ?", id);
+        jdbcTemplate.update(UPSERT_DELETE, table, id, deletedAt);
+    }
+
+    private void deleteSyncedBefore(String table, String idColumn, Timestamp rebuildStart) {
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE synced_at < ?", rebuildStart);
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE " + idColumn + " IN (SELECT row_id FROM"
+                + " payroll_projection_deletes WHERE table_name = ? AND deleted_at >= ?)", table, rebuildStart);
+    }
+
+    public long count(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count != null ? count : 0;
+    }
+
+    @Observed(name = "pms.repository.batch", contextualName = "projection-payslip")
+    public Optional<Payslip> findPayslip(Long payrollId) {
+        return jdbcTemplate.query(PAYSLIP_SELECT + " WHERE p.payroll_id = ?", PayrollProjectionRepository::payslip,
+                payrollId).stream().findFirst();
+    }
+
+    @Observed(name = "pms.repository.batch", contextualName = "projection-register-page")
+    public List<Payslip> findRegisterPage(LocalDate from, LocalDate to, Long departmentId, long after, int limit) {
+        StringBuilder sql = new StringBuilder(PAYSLIP_SELECT)
+                .append(" WHERE p.payroll_pay_date BETWEEN ? AND ? AND p.payroll_id > ?");
+        List<Object> args = new ArrayList<>(List.of(Date.valueOf(from), Date.valueOf(to), after));
+        if (departmentId != null) {
+            sql.append(" AND e.department_id = ?");
+            args.add(departmentId);
+        }
+        sql.append(" ORDER BY p.payroll_id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), PayrollProjectionRepository::payslip, args.toArray());
+    }
+
+    public List<Position> findPositions() {
+        return jdbcTemplate.query("SELECT position_id, position_title, base_salary, experience_bonus"
+                + " FROM payroll_positions", (rs, rowNum) -> {
+                    Position position = new Position();
+                    position.setPositionId(rs.getLong(1));
+                    position.setPositionTitle(rs.getString(2));
+                    position.setPositionBaseSalary(rs.getDouble(3));
+                    position.setPositionExperienceBonus(rs.getDouble(4));
+                    return position;
+                });
+    }
+
+    public Map<Long, String> findDepartmentNames() {
+        Map<Long, String> names = new HashMap<>();
+        jdbcTemplate.query("SELECT department_id, department_name FROM payroll_departments",
+                rs -> {
+                    names.put(rs.getLong(1), rs.getString(2));
+                });
+        return names;
+    }
+
+    /**
+     * Streams every employee's department and position, ordered by department so each
+     * department's employees arrive together. A missing department or position is passed as 0.
+     */
+    public void forEachAssignment(Long departmentId, AssignmentHandler handler) {
+        String sql = "SELECT department_id, position_id FROM payroll_employees"
+                + (departmentId != null ? " WHERE department_id = ?" : "")
+                + " ORDER BY department_id, employee_id";
+        Object[] args = departmentId != null ? new Object[] {departmentId} : new Object[0];
+        jdbcTemplate.query(sql, rs -> {
+            handler.accept(rs.getLong(1), rs.getLong(2));
+        }, args);
+    }
+
+    @FunctionalInterface
+    public interface AssignmentHandler {
+        void accept(long departmentId, long positionId);
+    }
+
+    private static Payslip payslip(ResultSet rs, int rowNum) throws SQLException {
+        Payslip payslip = new Payslip();
+        payslip.setPayrollId(rs.getLong(1));
+        payslip.setEmployeeId(rs.getLong(2));
+        payslip.setEmployeeName(rs.getString(3));
+        payslip.setDepartmentId(rs.getObject(4, Long.class));
+        payslip.setDepartmentName(rs.getString(5));
+        payslip.setPositionId(rs.getObject(6, Long.class));
+        payslip.setPositionTitle(rs.getString(7));
+        payslip.setPayrollPayDate(rs.getDate(8).toLocalDate());
+        payslip.setPayrollPeriod(rs.getDate(9).toLocalDate());
+        payslip.setPayrollBaseSalary(rs.getDouble(10));
+        payslip.setPayrollExperienceBonus(rs.getDouble(11));
+        payslip.setPayrollDeductions(rs.getDouble(12));
+        payslip.setPayrollTotalPay(rs.getDouble(13));
+        return payslip;
+    }
+}
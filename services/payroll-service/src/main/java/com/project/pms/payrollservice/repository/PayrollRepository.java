@@ -1,7 +1,10 @@
 package com.project.pms.payrollservice.repository;
 
 import com.project.pms.payrollservice.entity.Payroll;
+import java.time.LocalDate;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +12,8 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface PayrollRepository extends JpaRepository<Payroll, Long> {
     List<Payroll> findByEmployeeId(Long employeeId);
+
+    List<Payroll> findByEmployeeIdAndPayrollPayDateBetweenOrderByPayrollPayDate(Long employeeId, Date from, Date to);
+
+    Optional<Payroll> findByEmployeeIdAndPayrollPeriod(Long employeeId, LocalDate payrollPeriod);
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.project.pms.payrollservice.service;
+
+import com.project.pms.payrollservice.dto.AttendanceDays;
+import com.project.pms.payrollservice.dto.LeaveDays;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Attendance and approved leave of one pay month, prefetched in bulk and kept as day bitsets
+ * (bit {@code d - 1} is day {@code d}) in arrays sorted by employee id, so looking up an
+ * employee is a binary search and counting days is a {@link Long#bitCount}.
+ * <p>
+ * Working days are the month's Monday to Friday; there is no holiday calendar. Unpaid leave on
+ * a working day is not paid. When absences are counted, a working day up to the pay date with
+ * neither attendance nor approved leave is not paid either; days after the pay date are paid in
+ * advance.
+ */
+public final class PayPeriodDays {
+
+    private static final PayPeriodDays FULL_PAY = new PayPeriodDays(0, 0L, 0L, new long[0], new long[0],
+            new long[0], new long[0], new long[0]);
+
+    private final int workingDays;
+    private final long workingMask;
+    private final long absenceMask;
+    private final long[] attendanceIds;
+    private final long[] attendance;
+    private final long[] leaveIds;
+    private final long[] paidLeave;
+    private final long[] unpaidLeave;
+
+    private PayPeriodDays(int workingDays, long workingMask, long absenceMask, long[] attendanceIds,
+                          long[] attendance, long[] leaveIds, long[] paidLeave, long[] unpaidLeave) {
+        this.workingDays = workingDays;
+        this.workingMask = workingMask;
+        this.absenceMask = absenceMask;
+        this.attendanceIds = attendanceIds;
+        this.attendance = attendance;
+        this.leaveIds = leaveIds;
+        this.paidLeave = paidLeave;
+        this.unpaidLeave = unpaidLeave;
+    }
+
+    /** No proration: every employee is paid for the whole period. */
+    public static PayPeriodDays fullPay() {
+        return FULL_PAY;
+    }
+
+    public static PayPeriodDays of(LocalDate payDate, List<AttendanceDays> attendanceDays, List<LeaveDays> leaveDays,
+                                   boolean countAbsences) {
+        YearMonth month = YearMonth.from(payDate);
+        long workingMask = 0L;
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            DayOfWeek dayOfWeek = month.atDay(day).getDayOfWeek();
+            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
+                workingMask |= 1L << (day - 1);
+            }
+        }
+        long absenceMask = countAbsences ? workingMask & (-1L >>> (64 - payDate.getDayOfMonth())) : 0L;
+
+        AttendanceDays[] attended = attendanceDays.toArray(new AttendanceDays[0]);
+        Arrays.sort(attended, Comparator.comparing(AttendanceDays::getEmployeeId));
+        long[] attendanceIds = new long[attended.length];
+        long[] attendance = new long[attended.length];
+        for (int i = 0; i < attended.length; i++) {
+            attendanceIds[i] = attended[i].getEmployeeId();
+            attendance[i] = attended[i].getDays();
+        }
+
+        LeaveDays[] leaves = leaveDays.toArray(new LeaveDays[0]);
+        Arrays.sort(leaves, Comparator.comparing(LeaveDays::getEmployeeId));
+        long[] leaveIds = new long[leaves.length];
+        long[] paidLeave = new long[leaves.length];
+        long[] unpaidLeave = new long[leaves.length];
+        for (int i = 0; i < leaves.length; i++) {
+            leaveIds[i] = leaves[i].getEmployeeId();
+            paidLeave[i] = leaves[i].getPaidDays();
+            unpaidLeave[i] = leaves[i].getUnpaidDays();
+        }
+        return new PayPeriodDays(Long.bitCount(workingMask), workingMask, absenceMask, attendanceIds, attendance,
+                leaveIds, paidLeave, unpaidLeave);
+    }
+
+    public boolean isProrated() {
+        return workingDays > 0;
+    }
+
+    public int getWorkingDays() {
+        return workingDays;
+    }
+
+    public int payableDays(long employeeId) {
+        if (!isProrated()) {
+            return workingDays;
+        }
+        int a = Arrays.binarySearch(attendanceIds, employeeId);
+        int l = Arrays.binarySearch(leaveIds, employeeId);
+        long attended = a >= 0 ? attendance[a] : 0L;
+        long paid = l >= 0 ? paidLeave[l] : 0L;
+        long unpaid = l >= 0 ? unpaidLeave[l] : 0L;
+
+        long unpaidDays = unpaid & workingMask;
+        long absentDays = absenceMask & ~attended & ~paid & ~unpaid;
+        return workingDays - Long.bitCount(unpaidDays | absentDays);
+    }
+}
@@ -0,0 +1,171 @@
+package com.project.pms.payrollservice.service;
+
+import com.project.pms.payrollservice.dto.ArchiveSegment;
+import com.project.pms.payrollservice.entity.Payroll;
+import com.project.pms.payrollservice.repository.PayrollArchiveRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Moves pay periods older than {@code payroll.archive.retain-months} out of the
+ * {@code payrolls} table into one gzipped CSV per period, so the table and its indexes only
+ * hold recent history. {@code payroll_archive_segments} lists the archived periods; reads of
+ * archived payrolls open only the files of the periods they overlap. Payslips, the register and
+ * the export cover only payrolls still in the table, and an archived period cannot be paid again.
+ * <p>
+ * A period's file is written and moved into place before its rows are deleted, and the catalog
+ * row and the delete share a transaction, so a failure at any point leaves the payrolls in the
+ * table and the next run archives the period again.
+ */
+@Service
+public class PayrollArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollArchiveService.class);
+
+    @Autowired
+    private PayrollArchiveRepository payrollArchiveRepository;
+
+    @Value("${payroll.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${payroll.archive.retain-months:24}")
+    private int retainMonths;
+
+    @Value("${payroll.archive.dir:data/payroll-archive}")
+    private Path directory;
+
+    @Scheduled(cron = "${payroll.archive.cron:0 0 3 * * *}")
+    void scheduledArchive() {
+        if (enabled) {
+            archiveColdPeriods();
+        }
+    }
+
+    /** Archives every period that ended more than {@code retain-months} ago, oldest first. */
+    public synchronized List<ArchiveSegment> archiveColdPeriods() {
+        LocalDate cutoff = YearMonth.now().minusMonths(retainMonths).atDay(1);
+        List<ArchiveSegment> archived = new ArrayList<>();
+        for (Optional<LocalDate> oldest = payrollArchiveRepository.findOldestPayDateBefore(cutoff);
+             oldest.isPresent(); oldest = payrollArchiveRepository.findOldestPayDateBefore(cutoff)) {
+            archived.add(archivePeriod(YearMonth.from(oldest.get())));
+        }
+        return archived;
+    }
+
+    public synchronized ArchiveSegment archivePeriod(YearMonth period) {
+        if (isArchived(period.atDay(1))) {
+            throw new IllegalStateException("Payrolls for " + period + " are already archived");
+        }
+        String fileName = "payrolls-" + period + ".csv.gz";
+        Path file = directory.resolve(fileName);
+        long started = System.nanoTime();
+        long rows;
+        try {
+            Files.createDirectories(directory);
+            Path partial = directory.resolve(fileName + ".partial");
+            try (Writer out = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(partial)),
+                    StandardCharsets.UTF_8)) {
+                rows = payrollArchiveRepository.writePeriod(period, out);
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the payroll archive for " + period, e);
+        }
+
+        Instant archivedAt = Instant.now();
+        payrollArchiveRepository.commitSegment(period, fileName, rows, Timestamp.from(archivedAt));
+        log.info("Archived {} payrolls of {} to {} in {} ms", rows, period, file,
+                (System.nanoTime() - started) / 1_000_000);
+        return new ArchiveSegment(period, fileName, rows, archivedAt);
+    }
+
+    public boolean isArchived(LocalDate period) {
+        return payrollArchiveRepository.isArchived(period);
+    }
+
+    /**
+     * Runs {@code insert} in a transaction that first locks the period's catalog entry, so the
+     * period cannot be archived between the check and the insert. An archive that is already
+     * committing makes this wait and then fail; one that starts later finds the new payroll and
+     * backs off.
+     *
+     * @throws IllegalStateException if the period is archived
+     */
+    @Transactional
+    public <T> T insertUnarchived(LocalDate period, Supplier<T> insert) {
+        if (payrollArchiveRepository.lockPeriod(period)) {
+            throw new IllegalStateException("Pay period " + YearMonth.from(period) + " is archived");
+        }
+        return insert.get();
+    }
+
+    public List<ArchiveSegment> getSegments() {
+        return payrollArchiveRepository.findSegments();
+    }
+
+    /** Archived payrolls of one employee paid between {@code from} and {@code to}, ordered by period. */
+    public List<Payroll> findArchived(Long employeeId, LocalDate from, LocalDate to) {
+        List<Payroll> result = new ArrayList<>();
+        for (ArchiveSegment segment : payrollArchiveRepository.findSegments()) {
+            if (segment.getPeriod().atEndOfMonth().isBefore(from) || segment.getPeriod().atDay(1).isAfter(to)) {
+                continue;
+            }
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(directory.resolve(segment.getFileName()))),
+                    StandardCharsets.UTF_8))) {
+                in.readLine();
+                for (String line = in.readLine(); line != null; line = in.readLine()) {
+                    Payroll payroll = parse(line);
+                    LocalDate payDate = new java.sql.Date(payroll.getPayrollPayDate().getTime()).toLocalDate();
+                    if (payroll.getEmployeeId().equals(employeeId) && !payDate.isBefore(from) && !payDate.isAfter(to)) {
+                        result.add(payroll);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read the payroll archive " + segment.getFileName(), e);
+            }
+        }
+        return result;
+    }
+
+    private static Payroll parse(String line) {
+        String[] fields = line.split(",", -1);
+        Payroll payroll = new Payroll();
+        payroll.setPayrollId(Long.parseLong(fields[0]));
+        payroll.setEmployeeId(Long.parseLong(fields[1]));
+        payroll.setPayrollPayDate(java.sql.Date.valueOf(fields[2]));
+        payroll.setPayrollPeriod(LocalDate.parse(fields[3]));
+        payroll.setPayrollBaseSalary(Double.parseDouble(fields[4]));
+        payroll.setPayrollExperienceBonus(Double.parseDouble(fields[5]));
+        payroll.setPayrollDeductions(Double.parseDouble(fields[6]));
+        payroll.setPayrollTotalPay(Double.parseDouble(fields[7]));
+        payroll.setPayrollWorkingDays(fields[8].isEmpty() ? null : Integer.valueOf(fields[8]));
+        payroll.setPayrollPayableDays(fields[9].isEmpty() ? null : Integer.valueOf(fields[9]));
+        return payroll;
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.pms.payrollservice.service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Payroll arithmetic on {@code long} minor units (cents), so per-employee
+ * computation neither allocates nor accumulates floating-point error.
+ * <p>
+ * Tax is a flat rate on the whole gross pay, taken from the highest slab whose
+ * threshold the gross pay strictly exceeds. Slabs are given as
+ * {@code threshold:percent} pairs, e.g. {@code 400000:5,800000:10}, and are
+ * kept as two parallel sorted arrays searched with a binary search. Tax is
+ * rounded half-up to the cent.
+ */
+public final class PayrollCalculator {
+
+    public static final String DEFAULT_SLABS =
+            "400000:5,800000:10,1200000:15,1600000:20,2000000:25,2400000:30";
+
+    private static final int MINOR_UNITS = 100;
+    private static final long BASIS_POINTS = 10_000L;
+
+    private final long[] thresholds;
+    private final long[] rates;
+
+    private PayrollCalculator(long[] thresholds, long[] rates) {
+        this.thresholds = thresholds;
+        this.rates = rates;
+    }
+
+    public static PayrollCalculator fromSlabs(String slabs) {
+        String[] entries = slabs.isBlank() ? new String[0] : slabs.split(",");
+        long[] thresholds = new long[entries.length];
+        long[] rates = new long[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            String[] parts = entries[i].trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Tax slab must be threshold:percent, got '" + entries[i] + "'");
+            }
+            thresholds[i] = new BigDecimal(parts[0].trim()).movePointRight(2).longValueExact();
+            rates[i] = new BigDecimal(parts[1].trim()).movePointRight(2).longValueExact();
+            if (i > 0 && thresholds[i] <= thresholds[i - 1]) {
+                throw new IllegalArgumentException("Tax slab thresholds must be strictly increasing: " + slabs);
+            }
+            if (rates[i] < 0 || rates[i] > BASIS_POINTS) {
+                throw new IllegalArgumentException("Tax slab rate must be between 0 and 100: " + entries[i]);
+            }
+        }
+        return new PayrollCalculator(thresholds, rates);
+    }
+
+    public long taxMinor(long grossMinor) {
+        int index = Arrays.binarySearch(thresholds, grossMinor);
+        int slab = index >= 0 ? index - 1 : -index - 2;
+        if (slab < 0) {
+            return 0L;
+        }
+        return (grossMinor * rates[slab] + BASIS_POINTS / 2) / BASIS_POINTS;
+    }
+
+    public static long toMinor(double amount) {
+        return Math.round(amount * MINOR_UNITS);
+    }
+
+    public static double toMajor(long minor) {
+        return (double) minor / MINOR_UNITS;
+    }
+}
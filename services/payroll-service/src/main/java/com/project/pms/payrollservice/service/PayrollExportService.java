@@ -0,0 +1,80 @@
+package com.project.pms.payrollservice.service;
+
+import com.project.pms.payrollservice.repository.PayrollExportRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.Semaphore;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Payroll register exports. Each export holds one database connection for as long as the client
+ * reads, so only {@code payroll.export.max-concurrent} run at a time.
+ */
+@Service
+public class PayrollExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollExportService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private PayrollExportRepository payrollExportRepository;
+
+    private final Semaphore exports;
+
+    public PayrollExportService(@Value("${payroll.export.max-concurrent:2}") int maxConcurrent) {
+        this.exports = new Semaphore(maxConcurrent);
+    }
+
+    /** Whether an export could start now; lets callers answer 503 before committing a response. */
+    public boolean hasCapacity() {
+        return exports.availablePermits() > 0;
+    }
+
+    /**
+     * Writes the register for the pay date range, optionally limited to one department. Holds an
+     * export slot only while writing; returns false without writing anything when none is free.
+     */
+    public boolean writeCsv(LocalDate from, LocalDate to, Long departmentId, boolean gzip, OutputStream out)
+            throws IOException {
+        if (!exports.tryAcquire()) {
+            return false;
+        }
+        try {
+            long started = System.nanoTime();
+            OutputStream target = gzip ? new FastGzipOutputStream(out) : out;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+            long rows = payrollExportRepository.writeCsv(from, to, departmentId, writer);
+            writer.flush();
+            if (gzip) {
+                ((GZIPOutputStream) target).finish();
+            }
+            log.info("Exported {} payrolls ({} to {}, department {}) in {} ms", rows, from, to, departmentId,
+                    (System.nanoTime() - started) / 1_000_000);
+            return true;
+        } finally {
+            exports.release();
+        }
+    }
+
+    // Level 1 compresses payroll CSV nearly as well as the default level at several times the speed,
+    // which keeps the export limited by the database cursor instead of the deflater.
+    private static final class FastGzipOutputStream extends GZIPOutputStream {
+
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+}
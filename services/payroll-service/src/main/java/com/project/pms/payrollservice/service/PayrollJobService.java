@@ -0,0 +1,156 @@
+package com.project.pms.payrollservice.service;
+
+import com.project.pms.payrollservice.dto.PayrollJob;
+import com.project.pms.payrollservice.dto.PayrollJobRequest;
+import com.project.pms.payrollservice.entity.Payroll;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Single-employee payroll generation as background jobs. A submission returns at once and a
+ * bounded worker pool does the remote lookups and the insert. Jobs are deduplicated on the
+ * idempotency key and on (employee, pay period): resubmitting either returns the existing job
+ * unless it failed. The unique key on payrolls covers restarts and other instances.
+ * <p>
+ * Jobs live in this instance's memory only, under a random UUID, so a job is polled from the
+ * instance that accepted it and is gone after a restart. Finished jobs are kept for
+ * {@code payroll.jobs.retention}, and once more than {@code payroll.jobs.max-retained} jobs are
+ * held the oldest finished ones are dropped first.
+ */
+@Service
+public class PayrollJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollJobService.class);
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    @Qualifier("payrollJobExecutor")
+    private ExecutorService payrollJobExecutor;
+
+    @Value("${payroll.jobs.timeout:30s}")
+    private Duration timeout;
+
+    @Value("${payroll.jobs.retention:1h}")
+    private Duration retention;
+
+    @Value("${payroll.jobs.max-retained:10000}")
+    private int maxRetained;
+
+    private final Map<String, PayrollJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, PayrollJob> jobsByKey = new HashMap<>();
+    private final Map<EmployeePeriod, PayrollJob> jobsByEmployeePeriod = new HashMap<>();
+
+    /**
+     * Returns the job for this request, queueing a new one only if there is no live job for the
+     * same key or employee-period.
+     *
+     * @throws IllegalStateException if the key was already used for another employee or period
+     * @throws RejectedExecutionException if the worker queue is full
+     */
+    public Submission submit(Long employeeId, PayrollJobRequest request, String idempotencyKey) {
+        LocalDate payDate = request.getPayDate() != null ? request.getPayDate() : LocalDate.now();
+        double deductions = request.getDeductions() != null ? request.getDeductions() : 0.0;
+        EmployeePeriod employeePeriod = new EmployeePeriod(employeeId, Payroll.periodOf(payDate));
+        String key = idempotencyKey != null && !idempotencyKey.isBlank()
+                ? idempotencyKey
+                : employeeId + ":" + employeePeriod.period();
+
+        PayrollJob job;
+        synchronized (this) {
+            PayrollJob existing = jobsByKey.get(key);
+            if (existing != null && !matches(existing, employeePeriod)) {
+                throw new IllegalStateException("Idempotency key " + key + " was used for employee "
+                        + existing.getEmployeeId() + " and period " + existing.getPayrollPeriod());
+            }
+            if (existing == null) {
+                existing = jobsByEmployeePeriod.get(employeePeriod);
+            }
+            if (existing != null && existing.getStatus() != PayrollJob.JobStatus.FAILED) {
+                return new Submission(existing, false);
+            }
+            pruneFinished();
+            job = new PayrollJob(UUID.randomUUID().toString(), key, employeeId, payDate, employeePeriod.period());
+            payrollJobExecutor.execute(() -> run(job, deductions));
+            jobs.put(job.getJobId(), job);
+            jobsByKey.put(key, job);
+            jobsByEmployeePeriod.put(employeePeriod, job);
+        }
+        return new Submission(job, true);
+    }
+
+    public Optional<PayrollJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(PayrollJob job, double deductions) {
+        job.start();
+        try {
+            Payroll payroll = payrollService.generatePayroll(job.getEmployeeId(), deductions, job.getPayDate())
+                    .block(timeout);
+            job.complete(payroll.getPayrollId());
+        } catch (RuntimeException e) {
+            log.warn("Payroll job {} for employee {} failed: {}", job.getJobId(), job.getEmployeeId(), e.getMessage());
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void pruneFinished() {
+        if (jobs.size() < maxRetained) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.getFinishedAt().isAfter(cutoff)) {
+                return false;
+            }
+            forget(job);
+            return true;
+        });
+        if (jobs.size() < maxRetained) {
+            return;
+        }
+        Iterator<PayrollJob> oldestFirst = jobs.values().stream()
+                .filter(PayrollJob::isFinished)
+                .sorted(Comparator.comparing(PayrollJob::getFinishedAt))
+                .iterator();
+        while (jobs.size() >= maxRetained && oldestFirst.hasNext()) {
+            PayrollJob job = oldestFirst.next();
+            jobs.remove(job.getJobId(), job);
+            forget(job);
+        }
+    }
+
+    private void forget(PayrollJob job) {
+        jobsByKey.remove(job.getIdempotencyKey(), job);
+        jobsByEmployeePeriod.remove(new EmployeePeriod(job.getEmployeeId(), job.getPayrollPeriod()), job);
+    }
+
+    private static boolean matches(PayrollJob job, EmployeePeriod employeePeriod) {
+        return job.getEmployeeId().equals(employeePeriod.employeeId())
+                && job.getPayrollPeriod().equals(employeePeriod.period());
+    }
+
+    public record Submission(PayrollJob job, boolean created) {
+    }
+
+    private record EmployeePeriod(Long employeeId, LocalDate period) {
+    }
+}
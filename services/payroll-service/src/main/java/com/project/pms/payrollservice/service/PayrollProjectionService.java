@@ -0,0 +1,167 @@
+package com.project.pms.payrollservice.service;
+
+import com.project.pms.payrollservice.client.DepartmentClient;
+import com.project.pms.payrollservice.client.EmployeeClient;
+import com.project.pms.payrollservice.dto.Department;
+import com.project.pms.payrollservice.dto.Employee;
+import com.project.pms.payrollservice.dto.KeysetPage;
+import com.project.pms.payrollservice.dto.Payslip;
+import com.project.pms.payrollservice.dto.Position;
+import com.project.pms.payrollservice.dto.ProjectionStatus;
+import com.project.pms.payrollservice.repository.PayrollProjectionRepository;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple3;
+
+/**
+ * Maintains the local employee/position/department read model. employee-service and
+ * department-service push the new state of every record they change; a rebuild copies
+ * everything again to repair missed events. Deletes are recorded, so a delete that arrives
+ * while a rebuild runs is applied again after the rebuild's snapshot is written.
+ */
+@Service
+public class PayrollProjectionService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollProjectionService.class);
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int UPSERT_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private PayrollProjectionRepository projectionRepository;
+
+    @Autowired
+    private EmployeeClient employeeClient;
+
+    @Autowired
+    private DepartmentClient departmentClient;
+
+    @Autowired
+    @Qualifier("payrollRunExecutor")
+    private ExecutorService payrollRunExecutor;
+
+    @Value("${payroll.clients.employee-service.stream-timeout:5m}")
+    private Duration rebuildTimeout;
+
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile Instant lastRebuildAt;
+    private volatile long lastRebuildMillis;
+    private volatile String lastRebuildError;
+
+    public void employeesChanged(List<Employee> employees) {
+        upsertInChunks(employees, projectionRepository::upsertEmployees, now());
+        eventsApplied.addAndGet(employees.size());
+    }
+
+    public void employeeDeleted(Long employeeId) {
+        projectionRepository.deleteEmployee(employeeId, now());
+        eventsApplied.incrementAndGet();
+    }
+
+    public void positionChanged(Position position) {
+        projectionRepository.upsertPositions(List.of(position), now());
+        eventsApplied.incrementAndGet();
+    }
+
+    public void positionDeleted(Long positionId) {
+        projectionRepository.deletePosition(positionId, now());
+        eventsApplied.incrementAndGet();
+    }
+
+    public void departmentChanged(Department department) {
+        projectionRepository.upsertDepartments(List.of(department), now());
+        eventsApplied.incrementAndGet();
+    }
+
+    public void departmentDeleted(Long departmentId) {
+        projectionRepository.deleteDepartment(departmentId, now());
+        eventsApplied.incrementAndGet();
+    }
+
+    /** Starts a full rebuild in the background; returns false if one is already running. */
+    public boolean startRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        CompletableFuture.runAsync(this::rebuild, payrollRunExecutor)
+                .whenComplete((ignored, error) -> rebuilding.set(false));
+        return true;
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        Timestamp rebuildStart = now();
+        try {
+            Tuple3<List<Employee>, List<Position>, List<Department>> snapshot = Mono.zip(employeeClient.getEmployees(null), departmentClient.getAllPositions(),
+                    departmentClient.getAllDepartments()).block(rebuildTimeout);
+            upsertInChunks(snapshot.getT1(), projectionRepository::upsertEmployees, rebuildStart);
+            upsertInChunks(snapshot.getT2(), projectionRepository::upsertPositions, rebuildStart);
+            upsertInChunks(snapshot.getT3(), projectionRepository::upsertDepartments, rebuildStart);
+            projectionRepository.deleteSyncedBefore(rebuildStart);
+            lastRebuildError = null;
+            log.info("Rebuilt payroll projection: {} employees, {} positions, {} departments in {} ms",
+                    snapshot.getT1().size(), snapshot.getT2().size(), snapshot.getT3().size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Rebuilding the payroll projection failed", e);
+            lastRebuildError = e.getMessage();
+        } finally {
+            lastRebuildAt = rebuildStart.toInstant();
+            lastRebuildMillis = (System.nanoTime() - started) / 1_000_000;
+        }
+    }
+
+    public ProjectionStatus getStatus() {
+        ProjectionStatus status = new ProjectionStatus();
+        status.setEmployees(projectionRepository.count("payroll_employees"));
+        status.setPositions(projectionRepository.count("payroll_positions"));
+        status.setDepartments(projectionRepository.count("payroll_departments"));
+        status.setEventsApplied(eventsApplied.get());
+        status.setRebuilding(rebuilding.get());
+        status.setLastRebuildAt(lastRebuildAt);
+        status.setLastRebuildMillis(lastRebuildMillis);
+        status.setLastRebuildError(lastRebuildError);
+        return status;
+    }
+
+    public Optional<Payslip> getPayslip(Long payrollId) {
+        return projectionRepository.findPayslip(payrollId);
+    }
+
+    public KeysetPage<Payslip> getRegisterPage(LocalDate from, LocalDate to, Long departmentId, Long after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Payslip> payslips = projectionRepository.findRegisterPage(from, to, departmentId,
+                after != null ? after : 0L, pageSize);
+        Long nextCursor = payslips.size() == pageSize
+                ? payslips.get(payslips.size() - 1).getPayrollId()
+                : null;
+        return new KeysetPage<>(payslips, nextCursor);
+    }
+
+    private static <T> void upsertInChunks(List<T> rows, BiConsumer<List<T>, Timestamp> upsert, Timestamp syncedAt) {
+        for (int from = 0; from < rows.size(); from += UPSERT_CHUNK_SIZE) {
+            upsert.accept(rows.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, rows.size())), syncedAt);
+        }
+    }
+
+    private static Timestamp now() {
+        return Timestamp.from(Instant.now());
+    }
+}
@@ -0,0 +1,191 @@
+package com.project.pms.payrollservice.service;
+
+import com.project.pms.payrollservice.client.DepartmentClient;
+import com.project.pms.payrollservice.client.EmployeeClient;
+import com.project.pms.payrollservice.dto.Employee;
+import com.project.pms.payrollservice.dto.PayrollRun;
+import com.project.pms.payrollservice.dto.PayrollRunRequest;
+import com.project.pms.payrollservice.dto.Position;
+import com.project.pms.payrollservice.entity.Payroll;
+import com.project.pms.payrollservice.repository.PayrollBatchRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+
+@Service
+public class PayrollRunService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollRunService.class);
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    private PayrollBatchRepository payrollBatchRepository;
+
+    @Autowired
+    private EmployeeClient employeeClient;
+
+    @Autowired
+    private DepartmentClient departmentClient;
+
+    @Autowired
+    private PositionCache positionCache;
+
+    @Autowired
+    private PayrollArchiveService payrollArchiveService;
+
+    @Autowired
+    @Qualifier("payrollRunExecutor")
+    private ExecutorService payrollRunExecutor;
+
+    @Value("${payroll.run.batch-size:500}")
+    private int batchSize;
+
+    @Value("${payroll.run.retention:24h}")
+    private Duration retention;
+
+    @Value("${payroll.run.max-retained:100}")
+    private int maxRetained;
+
+    private final Map<String, PayrollRun> runs = new ConcurrentHashMap<>();
+
+    public PayrollRun startRun(PayrollRunRequest request) {
+        LocalDate payDate = request.getPayDate() != null ? request.getPayDate() : LocalDate.now();
+        double deductions = request.getDeductions() != null ? request.getDeductions() : 0.0;
+        PayrollRun run = new PayrollRun(UUID.randomUUID().toString(), payDate, request.getDepartmentId());
+        synchronized (this) {
+            pruneFinished();
+            runs.put(run.getRunId(), run);
+        }
+        if (payrollArchiveService.isArchived(Payroll.periodOf(payDate))) {
+            run.fail("Pay period " + YearMonth.from(payDate) + " is archived");
+            return run;
+        }
+
+        // Attendance and leave come for the whole company in one call each, even for a department run.
+        Mono.zip(employeeClient.getEmployees(request.getDepartmentId()), departmentClient.getAllPositions(),
+                        payrollService.getPayPeriodDays(payDate, null))
+                .toFuture()
+                .thenComposeAsync(lookups -> processInBatches(run, lookups.getT1(), lookups.getT2(), lookups.getT3(),
+                        deductions), payrollRunExecutor)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.error("Payroll run {} failed", run.getRunId(), error);
+                        run.fail(error.getMessage());
+                    } else {
+                        run.complete();
+                        log.info("Payroll run {} finished: {} processed, {} skipped, {} failed in {} ms ({} employees/s)",
+                                run.getRunId(), run.getProcessed(), run.getSkipped(), run.getFailed(),
+                                run.getElapsedMillis(), Math.round(run.getEmployeesPerSecond()));
+                    }
+                });
+        return run;
+    }
+
+    public Optional<PayrollRun> getRun(String runId) {
+        return Optional.ofNullable(runs.get(runId));
+    }
+
+    public Collection<PayrollRun> getRuns() {
+        return runs.values();
+    }
+
+    /**
+     * Drops finished runs older than {@code payroll.run.retention}, then the oldest finished runs
+     * while {@code payroll.run.max-retained} are still held. Runs in progress are always kept.
+     */
+    private void pruneFinished() {
+        Instant cutoff = Instant.now().minus(retention);
+        runs.values().removeIf(run -> run.isFinished() && run.getFinishedAt().isBefore(cutoff));
+        if (runs.size() < maxRetained) {
+            return;
+        }
+        Iterator<PayrollRun> oldestFirst = runs.values().stream()
+                .filter(PayrollRun::isFinished)
+                .sorted(Comparator.comparing(PayrollRun::getFinishedAt))
+                .iterator();
+        while (runs.size() >= maxRetained && oldestFirst.hasNext()) {
+            runs.remove(oldestFirst.next().getRunId());
+        }
+    }
+
+    private CompletableFuture<Void> processInBatches(PayrollRun run, List<Employee> employees,
+                                                     List<Position> positionList, PayPeriodDays days,
+                                                     double deductions) {
+        positionCache.putAll(positionList);
+        Map<Long, Position> positions = positionList.stream()
+                .collect(Collectors.toMap(Position::getPositionId, Function.identity()));
+        run.start(employees.size());
+        Date payDate = java.sql.Date.valueOf(run.getPayDate());
+
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < employees.size(); from += batchSize) {
+            List<Employee> batch = employees.subList(from, Math.min(from + batchSize, employees.size()));
+            batches.add(CompletableFuture.runAsync(
+                    () -> processBatch(run, batch, positions, days, deductions, payDate), payrollRunExecutor));
+        }
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture[0]));
+    }
+
+    private void processBatch(PayrollRun run, List<Employee> batch, Map<Long, Position> positions,
+                              PayPeriodDays days, double deductions, Date payDate) {
+        List<Employee> payable = new ArrayList<>(batch.size());
+        for (Employee employee : batch) {
+            if (positions.containsKey(employee.getPositionId())) {
+                payable.add(employee);
+            } else {
+                log.warn("Payroll run {}: position {} not found for employee {}",
+                        run.getRunId(), employee.getPositionId(), employee.getEmployeeId());
+                run.recordFailed(1);
+            }
+        }
+
+        // The insert leaves existing payrolls alone; look them up first so they are reported as skipped.
+        Set<Long> paid = Set.of();
+        List<Payroll> payrolls = new ArrayList<>(payable.size());
+        try {
+            paid = payrollBatchRepository.findPaidEmployeeIds(Payroll.periodOf(run.getPayDate()),
+                    payable.stream().map(Employee::getEmployeeId).toList());
+            for (Employee employee : payable) {
+                if (!paid.contains(employee.getEmployeeId())) {
+                    payrolls.add(payrollService.buildPayroll(employee.getEmployeeId(),
+                            positions.get(employee.getPositionId()), deductions, payDate, days));
+                }
+            }
+            payrollArchiveService.insertUnarchived(Payroll.periodOf(run.getPayDate()), () -> {
+                payrollBatchRepository.insertAll(payrolls);
+                return null;
+            });
+            run.recordProcessed(payrolls.size());
+        } catch (RuntimeException e) {
+            log.error("Payroll run {}: batch of {} payrolls failed", run.getRunId(), payable.size() - paid.size(), e);
+            run.recordFailed(payable.size() - paid.size());
+        }
+        run.recordSkipped(paid.size());
+    }
+}
@@ -1,15 +1,24 @@
 package com.project.pms.payrollservice.service;
 
-import com.project.pms.payrollservice.dto.Employee;
+import com.project.pms.payrollservice.client.AttendanceClient;
+import com.project.pms.payrollservice.client.EmployeeClient;
+import com.project.pms.payrollservice.client.LeaveClient;
 import com.project.pms.payrollservice.dto.Position;
 import com.project.pms.payrollservice.entity.Payroll;
 import com.project.pms.payrollservice.repository.PayrollRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import java.util.Map;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 
 @Service
@@ -19,50 +28,140 @@ public class PayrollService {
     private PayrollRepository payrollRepository;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private EmployeeClient employeeClient;
 
-    public Payroll generatePayroll(Long employeeId, Map<String, Double> payload) {
-        Employee employee = restTemplate.getForObject("http://employee-service/api/employees/" + employeeId, Employee.class);
-        if (employee == null) {
-            throw new RuntimeException("Employee not found");
+    @Autowired
+    private AttendanceClient attendanceClient;
+
+    @Autowired
+    private LeaveClient leaveClient;
+
+    @Autowired
+    private PositionCache positionCache;
+
+    @Autowired
+    private PayrollCalculator payrollCalculator;
+
+    @Autowired
+    private PayrollArchiveService payrollArchiveService;
+
+    @Autowired
+    @Qualifier("payrollBlockingScheduler")
+    private Scheduler payrollBlockingScheduler;
+
+    @Value("${payroll.proration.enabled:false}")
+    private boolean prorationEnabled;
+
+    @Value("${payroll.proration.count-absences:true}")
+    private boolean countAbsences;
+
+    public Mono<Payroll> generatePayroll(Long employeeId, Map<String, Double> payload) {
+        Double initialDeductions = (payload != null) ? payload.getOrDefault("deductions", 0.0) : 0.0;
+        return generatePayroll(employeeId, initialDeductions, LocalDate.now());
+    }
+
+    /**
+     * Generates the employee's payroll for the month of {@code payDate}, or returns the one
+     * already generated for that month without calling other services.
+     */
+    public Mono<Payroll> generatePayroll(Long employeeId, Double initialDeductions, LocalDate payDate) {
+        LocalDate period = Payroll.periodOf(payDate);
+        return Mono.fromCallable(() -> {
+                    if (payrollArchiveService.isArchived(period)) {
+                        throw new IllegalStateException("Pay period " + YearMonth.from(period) + " is archived");
+                    }
+                    return payrollRepository.findByEmployeeIdAndPayrollPeriod(employeeId, period);
+                })
+                .subscribeOn(payrollBlockingScheduler)
+                .flatMap(existing -> existing.map(Mono::just).orElseGet(() -> employeeClient.getEmployee(employeeId)
+                        .switchIfEmpty(Mono.error(() -> new RuntimeException("Employee not found")))
+                        .flatMap(employee -> positionCache.getPosition(employee.getPositionId()))
+                        .switchIfEmpty(Mono.error(() -> new RuntimeException("Position not found")))
+                        .zipWith(getPayPeriodDays(payDate, employeeId))
+                        .publishOn(payrollBlockingScheduler)
+                        .map(lookups -> saveOnce(buildPayroll(employeeId, lookups.getT1(), initialDeductions,
+                                java.sql.Date.valueOf(payDate), lookups.getT2())))));
+    }
+
+    /**
+     * Attendance and approved leave for the month of {@code payDate}, fetched in one call to each
+     * service for one employee or, when {@code employeeId} is null, for everyone. Without
+     * {@code payroll.proration.enabled} nothing is fetched and everyone is paid in full.
+     */
+    public Mono<PayPeriodDays> getPayPeriodDays(LocalDate payDate, Long employeeId) {
+        if (!prorationEnabled) {
+            return Mono.just(PayPeriodDays.fullPay());
         }
+        YearMonth month = YearMonth.from(payDate);
+        return Mono.zip(attendanceClient.getAttendanceDays(month, employeeId), leaveClient.getLeaveDays(month, employeeId))
+                .map(days -> PayPeriodDays.of(payDate, days.getT1(), days.getT2(), countAbsences));
+    }
 
-        Position position = restTemplate.getForObject("http://department-service/api/positions/" + employee.getPositionId(), Position.class);
-        if (position == null) {
-            throw new RuntimeException("Position not found");
+    private Payroll saveOnce(Payroll payroll) {
+        try {
+            return payrollArchiveService.insertUnarchived(payroll.getPayrollPeriod(),
+                    () -> payrollRepository.saveAndFlush(payroll));
+        } catch (DataIntegrityViolationException e) {
+            // Another request generated this employee's payroll for the period first.
+            return payrollRepository.findByEmployeeIdAndPayrollPeriod(payroll.getEmployeeId(), payroll.getPayrollPeriod())
+                    .orElseThrow(() -> e);
         }
+    }
 
-        Double initialDeductions = (payload != null) ? payload.getOrDefault("deductions", 0.0) : 0.0;
+    public Payroll buildPayroll(Long employeeId, Position position, Double initialDeductions, Date payDate) {
+        return buildPayroll(employeeId, position, initialDeductions, payDate, PayPeriodDays.fullPay());
+    }
 
-        Double baseSalary = position.getPositionBaseSalary();
-        Double experienceBonus = position.getPositionExperienceBonus();
-        Double grossPay = baseSalary + experienceBonus;
-        Double taxDeductions = calculateTax(grossPay);
-        Double totalDeductions = initialDeductions + taxDeductions;
-        Double totalPay = grossPay - totalDeductions;
+    /**
+     * Builds the payroll with gross pay prorated to the employee's payable share of the period's
+     * working days. Tax is on the prorated gross, and the unpaid part of the gross is shown as a
+     * deduction so base salary and bonus stay the position's.
+     */
+    public Payroll buildPayroll(Long employeeId, Position position, Double initialDeductions, Date payDate,
+                                PayPeriodDays days) {
+        long baseSalary = PayrollCalculator.toMinor(position.getPositionBaseSalary());
+        long experienceBonus = PayrollCalculator.toMinor(position.getPositionExperienceBonus());
+        long grossPay = baseSalary + experienceBonus;
+        long payableGross = grossPay;
+        int payableDays = days.payableDays(employeeId);
+        if (days.isProrated()) {
+            // Rounded half-up to the cent
+            payableGross = (grossPay * payableDays * 2 + days.getWorkingDays()) / (days.getWorkingDays() * 2L);
+        }
+        long totalDeductions = PayrollCalculator.toMinor(initialDeductions) + payrollCalculator.taxMinor(payableGross)
+                + (grossPay - payableGross);
+        long totalPay = grossPay - totalDeductions;
 
         Payroll payroll = new Payroll();
         payroll.setEmployeeId(employeeId);
-        payroll.setPayrollPayDate(new Date());
-        payroll.setPayrollBaseSalary(baseSalary);
-        payroll.setPayrollExperienceBonus(experienceBonus);
-        payroll.setPayrollDeductions(totalDeductions);
-        payroll.setPayrollTotalPay(totalPay);
-
-        return payrollRepository.save(payroll);
+        payroll.setPayrollPayDate(payDate);
+        payroll.setPayrollPeriod(Payroll.periodOf(payDate));
+        payroll.setPayrollBaseSalary(PayrollCalculator.toMajor(baseSalary));
+        payroll.setPayrollExperienceBonus(PayrollCalculator.toMajor(experienceBonus));
+        payroll.setPayrollDeductions(PayrollCalculator.toMajor(totalDeductions));
+        payroll.setPayrollTotalPay(PayrollCalculator.toMajor(totalPay));
+        if (days.isProrated()) {
+            payroll.setPayrollWorkingDays(days.getWorkingDays());
+            payroll.setPayrollPayableDays(payableDays);
+        }
+        return payroll;
     }
 
     public List<Payroll> getPayrollsForEmployee(Long employeeId) {
         return payrollRepository.findByEmployeeId(employeeId);
     }
 
-    private Double calculateTax(Double grossPay) {
-        if (grossPay > 2400000) return grossPay * 0.30;
-        if (grossPay > 2000000) return grossPay * 0.25;
-        if (grossPay > 1600000) return grossPay * 0.20;
-        if (grossPay > 1200000) return grossPay * 0.15;
-        if (grossPay > 800000) return grossPay * 0.10;
-        if (grossPay > 400000) return grossPay * 0.05;
-        return 0.0;
+    /**
+     * Payrolls of one employee paid between {@code from} and {@code to}, read through
+     * idx_payrolls_employee_pay_date, plus the archived part of the range when {@code archived}.
+     */
+    public List<Payroll> getPayrollsForEmployee(Long employeeId, LocalDate from, LocalDate to, boolean archived) {
+        List<Payroll> payrolls = new ArrayList<>();
+        if (archived) {
+            payrolls.addAll(payrollArchiveService.findArchived(employeeId, from, to));
+        }
+        payrolls.addAll(payrollRepository.findByEmployeeIdAndPayrollPayDateBetweenOrderByPayrollPayDate(employeeId,
+                java.sql.Date.valueOf(from), java.sql.Date.valueOf(to)));
+        return payrolls;
     }
 }
\ No newline at end of file
@@ -0,0 +1,261 @@
+package com.project.pms.payrollservice.service;
+
+import com.project.pms.payrollservice.dto.DepartmentImpact;
+import com.project.pms.payrollservice.dto.PayrollSimulation;
+import com.project.pms.payrollservice.dto.PayrollTotals;
+import com.project.pms.payrollservice.dto.Position;
+import com.project.pms.payrollservice.dto.SimulationRequest;
+import com.project.pms.payrollservice.repository.PayrollProjectionRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * What-if pricing of salary and tax changes. Employees and positions come from the payroll read
+ * model and are laid out as one {@code int[]} of position indexes per department; positions are
+ * priced once into {@code long[]} gross arrays, so the per-employee work is two array reads and
+ * two tax lookups. Departments are split across {@code payrollSimulationPool}, and departments
+ * larger than {@link #EMPLOYEE_SLICE} employees are split again by employee range. Nothing is
+ * written.
+ */
+@Service
+public class PayrollSimulationService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollSimulationService.class);
+
+    private static final int EMPLOYEE_SLICE = 4096;
+
+    private static final int NO_POSITION = -1;
+
+    // Accumulator slots, all in minor units except the counts.
+    private static final int EMPLOYEES = 0;
+    private static final int UNPRICED = 1;
+    private static final int BASELINE_GROSS = 2;
+    private static final int BASELINE_TAX = 3;
+    private static final int SIMULATED_GROSS = 4;
+    private static final int SIMULATED_TAX = 5;
+    private static final int SLOTS = 6;
+
+    @Autowired
+    private PayrollProjectionRepository projectionRepository;
+
+    @Autowired
+    private PayrollCalculator payrollCalculator;
+
+    @Autowired
+    @Qualifier("payrollSimulationPool")
+    private ForkJoinPool payrollSimulationPool;
+
+    public PayrollSimulation simulate(SimulationRequest request) {
+        PayrollCalculator simulatedCalculator = request.getTaxSlabs() != null
+                ? PayrollCalculator.fromSlabs(request.getTaxSlabs())
+                : payrollCalculator;
+        long deductions = PayrollCalculator.toMinor(request.getDeductions() != null ? request.getDeductions() : 0.0);
+
+        long started = System.nanoTime();
+        List<Position> positions = projectionRepository.findPositions();
+        Map<Long, Integer> positionIndexes = new HashMap<>(positions.size() * 2);
+        long[] baselineGross = new long[positions.size()];
+        long[] simulatedGross = new long[positions.size()];
+        Map<Long, Position> overrides = new HashMap<>();
+        if (request.getPositions() != null) {
+            request.getPositions().forEach(override -> overrides.put(override.getPositionId(), override));
+        }
+        for (int i = 0; i < positions.size(); i++) {
+            Position position = positions.get(i);
+            positionIndexes.put(position.getPositionId(), i);
+            baselineGross[i] = gross(position.getPositionBaseSalary(), position.getPositionExperienceBonus());
+            Position override = overrides.get(position.getPositionId());
+            simulatedGross[i] = override == null ? baselineGross[i] : gross(
+                    override.getPositionBaseSalary() != null
+                            ? override.getPositionBaseSalary() : position.getPositionBaseSalary(),
+                    override.getPositionExperienceBonus() != null
+                            ? override.getPositionExperienceBonus() : position.getPositionExperienceBonus());
+        }
+        List<DepartmentEmployees> departments = loadDepartments(request.getDepartmentId(), positionIndexes);
+        long loaded = System.nanoTime();
+
+        Pricing pricing = new Pricing(baselineGross, simulatedGross, payrollCalculator, simulatedCalculator);
+        long[][] results = new long[departments.size()][];
+        payrollSimulationPool.invoke(new DepartmentsTask(departments, pricing, results, 0, departments.size()));
+        long computed = System.nanoTime();
+
+        PayrollSimulation simulation = summarize(departments, results, deductions,
+                projectionRepository.findDepartmentNames());
+        simulation.setSnapshotMillis((loaded - started) / 1_000_000);
+        simulation.setComputeMillis((computed - loaded) / 1_000_000);
+        log.info("Payroll simulation over {} employees in {} departments: snapshot {} ms, compute {} ms",
+                simulation.getEmployees(), departments.size(), simulation.getSnapshotMillis(),
+                simulation.getComputeMillis());
+        return simulation;
+    }
+
+    private List<DepartmentEmployees> loadDepartments(Long departmentId, Map<Long, Integer> positionIndexes) {
+        List<DepartmentEmployees> departments = new ArrayList<>();
+        DepartmentEmployees[] current = {null};
+        projectionRepository.forEachAssignment(departmentId, (department, position) -> {
+            if (current[0] == null || current[0].departmentId != department) {
+                current[0] = new DepartmentEmployees(department);
+                departments.add(current[0]);
+            }
+            current[0].add(positionIndexes.getOrDefault(position, NO_POSITION));
+        });
+        return departments;
+    }
+
+    private static PayrollSimulation summarize(List<DepartmentEmployees> departments, long[][] results,
+                                               long deductions, Map<Long, String> departmentNames) {
+        long[] overall = new long[SLOTS];
+        List<DepartmentImpact> impacts = new ArrayList<>(departments.size());
+        for (int i = 0; i < departments.size(); i++) {
+            long[] result = results[i];
+            merge(overall, result);
+            long departmentId = departments.get(i).departmentId;
+            PayrollTotals baseline = totals(result, BASELINE_GROSS, BASELINE_TAX, deductions);
+            PayrollTotals simulated = totals(result, SIMULATED_GROSS, SIMULATED_TAX, deductions);
+            impacts.add(new DepartmentImpact(departmentId != 0 ? departmentId : null, departmentNames.get(departmentId),
+                    result[EMPLOYEES], baseline, simulated, delta(result)));
+        }
+
+        PayrollSimulation simulation = new PayrollSimulation();
+        simulation.setEmployees(overall[EMPLOYEES]);
+        simulation.setUnpriced(overall[UNPRICED]);
+        simulation.setBaseline(totals(overall, BASELINE_GROSS, BASELINE_TAX, deductions));
+        simulation.setSimulated(totals(overall, SIMULATED_GROSS, SIMULATED_TAX, deductions));
+        simulation.setDelta(delta(overall));
+        simulation.setDepartments(impacts);
+        return simulation;
+    }
+
+    private static PayrollTotals totals(long[] result, int grossSlot, int taxSlot, long deductions) {
+        long gross = result[grossSlot];
+        long tax = result[taxSlot];
+        long net = gross - tax - deductions * result[EMPLOYEES];
+        return new PayrollTotals(PayrollCalculator.toMajor(gross), PayrollCalculator.toMajor(tax),
+                PayrollCalculator.toMajor(net));
+    }
+
+    // Deductions are the same on both sides, so they cancel out of the net delta.
+    private static PayrollTotals delta(long[] result) {
+        long gross = result[SIMULATED_GROSS] - result[BASELINE_GROSS];
+        long tax = result[SIMULATED_TAX] - result[BASELINE_TAX];
+        return new PayrollTotals(PayrollCalculator.toMajor(gross), PayrollCalculator.toMajor(tax),
+                PayrollCalculator.toMajor(gross - tax));
+    }
+
+    private static long gross(Double baseSalary, Double experienceBonus) {
+        return PayrollCalculator.toMinor(baseSalary != null ? baseSalary : 0.0)
+                + PayrollCalculator.toMinor(experienceBonus != null ? experienceBonus : 0.0);
+    }
+
+    private static void merge(long[] into, long[] from) {
+        for (int slot = 0; slot < SLOTS; slot++) {
+            into[slot] += from[slot];
+        }
+    }
+
+    private record Pricing(long[] baselineGross, long[] simulatedGross, PayrollCalculator baseline,
+                           PayrollCalculator simulated) {
+    }
+
+    /** One department's employees as position indexes, grown like an {@code ArrayList}. */
+    private static final class DepartmentEmployees {
+        private final long departmentId;
+        private int[] positions = new int[16];
+        private int size;
+
+        private DepartmentEmployees(long departmentId) {
+            this.departmentId = departmentId;
+        }
+
+        private void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+    }
+
+    /** Halves the department range until one department is left, then prices it. */
+    private static final class DepartmentsTask extends RecursiveAction {
+        private final List<DepartmentEmployees> departments;
+        private final Pricing pricing;
+        private final long[][] results;
+        private final int from;
+        private final int to;
+
+        private DepartmentsTask(List<DepartmentEmployees> departments, Pricing pricing, long[][] results,
+                                int from, int to) {
+            this.departments = departments;
+            this.pricing = pricing;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new DepartmentsTask(departments, pricing, results, from, middle),
+                        new DepartmentsTask(departments, pricing, results, middle, to));
+            } else if (to > from) {
+                DepartmentEmployees department = departments.get(from);
+                results[from] = new EmployeesTask(department.positions, pricing, 0, department.size).compute();
+            }
+        }
+    }
+
+    /** Prices a range of one department's employees, splitting ranges above {@link #EMPLOYEE_SLICE}. */
+    private static final class EmployeesTask extends RecursiveTask<long[]> {
+        private final int[] positions;
+        private final Pricing pricing;
+        private final int from;
+        private final int to;
+
+        private EmployeesTask(int[] positions, Pricing pricing, int from, int to) {
+            this.positions = positions;
+            this.pricing = pricing;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from > EMPLOYEE_SLICE) {
+                int middle = (from + to) >>> 1;
+                EmployeesTask left = new EmployeesTask(positions, pricing, from, middle);
+                left.fork();
+                long[] result = new EmployeesTask(positions, pricing, middle, to).compute();
+                merge(result, left.join());
+                return result;
+            }
+            long[] result = new long[SLOTS];
+            for (int i = from; i < to; i++) {
+                int position = positions[i];
+                if (position == NO_POSITION) {
+                    result[UNPRICED]++;
+                    continue;
+                }
+                long baselineGross = pricing.baselineGross()[position];
+                long simulatedGross = pricing.simulatedGross()[position];
+                result[EMPLOYEES]++;
+                result[BASELINE_GROSS] += baselineGross;
+                result[BASELINE_TAX] += pricing.baseline().taxMinor(baselineGross);
+                result[SIMULATED_GROSS] += simulatedGross;
+                result[SIMULATED_TAX] += pricing.simulated().taxMinor(simulatedGross);
+            }
+            return result;
+        }
+    }
+}
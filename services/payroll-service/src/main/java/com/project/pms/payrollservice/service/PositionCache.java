@@ -0,0 +1,85 @@
+package com.project.pms.payrollservice.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.pms.payrollservice.client.DepartmentClient;
+import com.project.pms.payrollservice.dto.CacheStats;
+import com.project.pms.payrollservice.dto.Position;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+
+@Service
+public class PositionCache implements MeterBinder {
+
+    @Autowired
+    private DepartmentClient departmentClient;
+
+    @Value("${payroll.position-cache.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${payroll.position-cache.max-size:10000}")
+    private long maxSize;
+
+    private AsyncCache<Long, Position> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+    }
+
+    public Mono<Position> getPosition(Long positionId) {
+        return Mono.fromFuture(() -> cache.get(positionId,
+                (id, executor) -> departmentClient.getPosition(id).toFuture()));
+    }
+
+    public Mono<Map<Long, Position>> getPositions(Collection<Long> positionIds) {
+        return Mono.fromFuture(() -> cache.getAll(positionIds,
+                (ids, executor) -> departmentClient.getPositions(ids).map(this::byId).toFuture()));
+    }
+
+    public void putAll(Collection<Position> positions) {
+        for (Position position : positions) {
+            cache.synchronous().put(position.getPositionId(), position);
+        }
+    }
+
+    public void evict(Long positionId) {
+        cache.synchronous().invalidate(positionId);
+    }
+
+    public void evictAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public CacheStats getStats() {
+        com.github.benmanes.caffeine.cache.stats.CacheStats stats = cache.synchronous().stats();
+        return new CacheStats(cache.synchronous().estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "payroll.positions");
+    }
+
+    private Map<Long, Position> byId(List<Position> positions) {
+        return positions.stream().collect(Collectors.toMap(Position::getPositionId, Function.identity()));
+    }
+}
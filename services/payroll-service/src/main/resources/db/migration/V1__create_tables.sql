@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS payrolls (
+    payroll_id BIGINT NOT NULL AUTO_INCREMENT,
+    employee_id BIGINT NOT NULL,
+    payroll_pay_date DATE NOT NULL,
+    payroll_base_salary DOUBLE NOT NULL,
+    payroll_experience_bonus DOUBLE NOT NULL,
+    payroll_deductions DOUBLE NOT NULL,
+    payroll_total_pay DOUBLE NOT NULL,
+    PRIMARY KEY (payroll_id)
+) ENGINE = InnoDB;
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_payrolls_employee_pay_date ON payrolls (employee_id, payroll_pay_date);
@@ -0,0 +1,20 @@
+-- One payroll per employee and pay period (calendar month, stored as its first day). Retried
+-- generate calls used to insert a second row; those rows are copied to payroll_duplicates
+-- before the unique key is added, keeping the first row of each employee-month in payrolls.
+ALTER TABLE payrolls ADD COLUMN payroll_period DATE NULL;
+
+UPDATE payrolls
+SET payroll_period = CAST(TIMESTAMPADD(DAY, 1 - DAYOFMONTH(payroll_pay_date), payroll_pay_date) AS DATE);
+
+CREATE TABLE IF NOT EXISTS payroll_duplicates AS
+SELECT p.* FROM payrolls p
+WHERE p.payroll_id NOT IN (
+    SELECT kept.payroll_id FROM (
+        SELECT MIN(payroll_id) AS payroll_id FROM payrolls GROUP BY employee_id, payroll_period
+    ) kept
+);
+
+DELETE FROM payrolls WHERE payroll_id IN (SELECT payroll_id FROM payroll_duplicates);
+
+ALTER TABLE payrolls MODIFY payroll_period DATE NOT NULL;
+ALTER TABLE payrolls ADD CONSTRAINT uk_payrolls_employee_period UNIQUE (employee_id, payroll_period);
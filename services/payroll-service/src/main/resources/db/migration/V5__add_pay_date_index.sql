@@ -0,0 +1,2 @@
+-- Register exports scan a pay date range across all employees, in pay date order.
+CREATE INDEX IF NOT EXISTS idx_payrolls_pay_date ON payrolls (payroll_pay_date);
@@ -0,0 +1,29 @@
+-- Local read model of the employee and department data that payslips and the register show.
+-- Kept current by change events from employee-service and department-service; a rebuild
+-- re-copies everything and removes rows whose synced_at predates it.
+CREATE TABLE IF NOT EXISTS payroll_employees (
+    employee_id BIGINT NOT NULL,
+    employee_name VARCHAR(255) NOT NULL,
+    department_id BIGINT NULL,
+    position_id BIGINT NULL,
+    synced_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (employee_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX IF NOT EXISTS idx_payroll_employees_department ON payroll_employees (department_id, employee_id);
+
+CREATE TABLE IF NOT EXISTS payroll_positions (
+    position_id BIGINT NOT NULL,
+    position_title VARCHAR(255) NOT NULL,
+    base_salary DOUBLE NOT NULL,
+    experience_bonus DOUBLE NOT NULL,
+    synced_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (position_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS payroll_departments (
+    department_id BIGINT NOT NULL,
+    department_name VARCHAR(255) NOT NULL,
+    synced_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (department_id)
+) ENGINE = InnoDB;
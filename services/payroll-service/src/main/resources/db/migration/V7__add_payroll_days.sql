@@ -0,0 +1,3 @@
+-- Working and payable days of prorated payrolls; null for payrolls paid in full without proration.
+ALTER TABLE payrolls ADD COLUMN IF NOT EXISTS payroll_working_days INT NULL;
+ALTER TABLE payrolls ADD COLUMN IF NOT EXISTS payroll_payable_days INT NULL;
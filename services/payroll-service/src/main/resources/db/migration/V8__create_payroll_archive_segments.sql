@@ -0,0 +1,9 @@
+-- Catalog of pay periods moved out of the payrolls table into compressed files under
+-- payroll.archive.dir. A period is listed here in the same transaction that deletes its rows.
+CREATE TABLE IF NOT EXISTS payroll_archive_segments (
+    payroll_period DATE NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    row_count BIGINT NOT NULL,
+    archived_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (payroll_period)
+) ENGINE = InnoDB;
@@ -0,0 +1,9 @@
+-- Deletes applied to the read model, so a rebuild whose snapshot was read before a delete can
+-- remove the row again instead of resurrecting it. Only entries newer than the last rebuild
+-- start are needed; each rebuild prunes the older ones.
+CREATE TABLE IF NOT EXISTS payroll_projection_deletes (
+    table_name VARCHAR(32) NOT NULL,
+    row_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (table_name, row_id)
+) ENGINE = InnoDB;
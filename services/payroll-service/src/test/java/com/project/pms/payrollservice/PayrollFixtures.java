@@ -0,0 +1,23 @@
+package com.project.pms.payrollservice;
+
+import com.project.pms.payrollservice.entity.Payroll;
+import java.time.LocalDate;
+
+/** Payrolls for tests: 1000.0 base salary, 50.0 deductions and 950.0 total pay. */
+public final class PayrollFixtures {
+
+    private PayrollFixtures() {
+    }
+
+    public static Payroll payroll(long employeeId, LocalDate payDate) {
+        Payroll payroll = new Payroll();
+        payroll.setEmployeeId(employeeId);
+        payroll.setPayrollPayDate(java.sql.Date.valueOf(payDate));
+        payroll.setPayrollPeriod(Payroll.periodOf(payDate));
+        payroll.setPayrollBaseSalary(1000.0);
+        payroll.setPayrollExperienceBonus(0.0);
+        payroll.setPayrollDeductions(50.0);
+        payroll.setPayrollTotalPay(950.0);
+        return payroll;
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.pms.payrollservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadConfigTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class,
+                    DispatcherServletAutoConfiguration.class, WebMvcAutoConfiguration.class,
+                    HttpMessageConvertersAutoConfiguration.class))
+            .withUserConfiguration(VirtualThreadConfig.class, ThreadController.class)
+            .withPropertyValues("pms.threads.virtual.enabled=true");
+
+    @Test
+    void asyncRequestsRunOnTheVirtualThreadTaskExecutor() {
+        contextRunner.run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+            MvcResult started = mockMvc.perform(get("/thread")).andExpect(request().asyncStarted()).andReturn();
+            MvcResult finished = mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+
+            assertThat(finished.getResponse().getContentAsString()).startsWith("task-vt-").endsWith(" virtual=true");
+        });
+    }
+
+    @RestController
+    static class ThreadController {
+
+        @GetMapping("/thread")
+        Callable<String> thread() {
+            return () -> {
+                Thread current = Thread.currentThread();
+                return current.getName() + " virtual=" + Thread.class.getMethod("isVirtual").invoke(current);
+            };
+        }
+    }
+}
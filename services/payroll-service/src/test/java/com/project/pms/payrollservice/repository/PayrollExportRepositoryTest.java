@@ -0,0 +1,79 @@
+package com.project.pms.payrollservice.repository;
+
+import static com.project.pms.payrollservice.PayrollFixtures.payroll;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.pms.payrollservice.dto.Department;
+import com.project.pms.payrollservice.dto.Employee;
+import com.project.pms.payrollservice.entity.Payroll;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:payroll_export;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PayrollExportRepository.class, PayrollProjectionRepository.class})
+class PayrollExportRepositoryTest {
+
+    @Autowired
+    private PayrollRepository payrollRepository;
+
+    @Autowired
+    private PayrollExportRepository payrollExportRepository;
+
+    @Autowired
+    private PayrollProjectionRepository projectionRepository;
+
+    @Test
+    void writesPayrollsInRangeForOneDepartmentInPayDateOrder() throws IOException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        projectionRepository.upsertEmployees(List.of(employee(1L, "Lovelace, Ada", 10L), employee(2L, "Grace", 10L),
+                employee(3L, "Linus", 20L)), now);
+        projectionRepository.upsertDepartments(List.of(department(10L, "Engineering")), now);
+        Payroll large = payroll(1L, LocalDate.of(2024, 2, 29));
+        large.setPayrollBaseSalary(12345678.9);
+        large.setPayrollTotalPay(12345628.9);
+        List<Payroll> saved = payrollRepository.saveAllAndFlush(List.of(
+                large,
+                payroll(2L, LocalDate.of(2024, 1, 31)),
+                payroll(3L, LocalDate.of(2024, 1, 31)),
+                payroll(1L, LocalDate.of(2024, 3, 31))));
+        StringWriter out = new StringWriter();
+
+        long rows = payrollExportRepository.writeCsv(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29), 10L, out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString()).isEqualTo(PayrollExportRepository.CSV_HEADER
+                + saved.get(1).getPayrollId() + ",2,Grace,10,Engineering,,2024-01-31,2024-01-01,1000.00,0.00,50.00,950.00\n"
+                + saved.get(0).getPayrollId() + ",1,\"Lovelace, Ada\",10,Engineering,,2024-02-29,2024-02-01,12345678.90,0.00,50.00,12345628.90\n");
+    }
+
+    private static Employee employee(long employeeId, String name, long departmentId) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setEmployeeName(name);
+        employee.setDepartmentId(departmentId);
+        return employee;
+    }
+
+    private static Department department(long departmentId, String name) {
+        Department department = new Department();
+        department.setDepartmentId(departmentId);
+        department.setDepartmentName(name);
+        return department;
+    }
+}
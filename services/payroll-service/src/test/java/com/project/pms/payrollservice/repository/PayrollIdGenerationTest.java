@@ -0,0 +1,82 @@
+package com.project.pms.payrollservice.repository;
+
+import static com.project.pms.payrollservice.PayrollFixtures.payroll;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.pms.payrollservice.entity.Payroll;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:payroll_ids;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PayrollBatchRepository.class, IdGeneratorRepository.class})
+class PayrollIdGenerationTest {
+
+    @Autowired
+    private PayrollRepository payrollRepository;
+
+    @Autowired
+    private PayrollBatchRepository payrollBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long nextEmployeeId;
+
+    @Test
+    void hibernateAndJdbcBatchInsertsNeverShareIds() {
+        List<Payroll> before = payrollRepository.saveAllAndFlush(payrolls(3));
+        List<Payroll> batch = payrolls(120);
+        payrollBatchRepository.insertAll(batch);
+        List<Payroll> after = payrollRepository.saveAllAndFlush(payrolls(3));
+
+        List<Long> ids = new ArrayList<>();
+        before.forEach(payroll -> ids.add(payroll.getPayrollId()));
+        batch.forEach(payroll -> ids.add(payroll.getPayrollId()));
+        after.forEach(payroll -> ids.add(payroll.getPayrollId()));
+
+        assertThat(ids).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(payrollRepository.count()).isEqualTo(126);
+        assertThat(batch).extracting(Payroll::getPayrollId)
+                .containsExactlyElementsOf(LongStream.range(0, 120)
+                        .mapToObj(i -> batch.get(0).getPayrollId() + i).toList());
+    }
+
+    @Test
+    void batchInsertKeepsThePayrollAlreadyGeneratedForThePeriod() {
+        Long employeeId = payrollRepository.saveAllAndFlush(payrolls(1)).get(0).getEmployeeId();
+        Payroll retry = payroll(employeeId, LocalDate.now().withDayOfMonth(1));
+        retry.setPayrollTotalPay(1.0);
+        Payroll nextMonth = payroll(employeeId, LocalDate.now().withDayOfMonth(1).plusMonths(1));
+        nextMonth.setPayrollTotalPay(2.0);
+
+        payrollBatchRepository.insertAll(List.of(retry, nextMonth));
+
+        assertThat(jdbcTemplate.queryForList("SELECT payroll_total_pay FROM payrolls WHERE employee_id = ?",
+                Double.class, employeeId))
+                .containsExactlyInAnyOrder(950.0, 2.0);
+    }
+
+    private List<Payroll> payrolls(int count) {
+        List<Payroll> payrolls = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            payrolls.add(payroll(nextEmployeeId++, LocalDate.now()));
+        }
+        return payrolls;
+    }
+}
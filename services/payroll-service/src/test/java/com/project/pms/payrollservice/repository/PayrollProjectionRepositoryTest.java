@@ -0,0 +1,122 @@
+package com.project.pms.payrollservice.repository;
+
+import static com.project.pms.payrollservice.PayrollFixtures.payroll;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.pms.payrollservice.dto.Employee;
+import com.project.pms.payrollservice.dto.Payslip;
+import com.project.pms.payrollservice.dto.Position;
+import com.project.pms.payrollservice.entity.Payroll;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:payroll_projection;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(PayrollProjectionRepository.class)
+class PayrollProjectionRepositoryTest {
+
+    private static final Timestamp REBUILD_START = Timestamp.valueOf("2024-05-01 10:00:00");
+
+    @Autowired
+    private PayrollRepository payrollRepository;
+
+    @Autowired
+    private PayrollProjectionRepository projectionRepository;
+
+    @Test
+    void payslipJoinsPayrollWithProjectedEmployeeAndPosition() {
+        projectionRepository.upsertEmployees(List.of(employee(1L, "Ada", 7L)), REBUILD_START);
+        projectionRepository.upsertPositions(List.of(position(7L, "Engineer")), REBUILD_START);
+        Payroll payroll = payrollRepository.saveAndFlush(payroll(1L, LocalDate.of(2024, 4, 30)));
+
+        Payslip payslip = projectionRepository.findPayslip(payroll.getPayrollId()).orElseThrow();
+
+        assertThat(payslip.getEmployeeName()).isEqualTo("Ada");
+        assertThat(payslip.getPositionTitle()).isEqualTo("Engineer");
+        assertThat(payslip.getPayrollPeriod()).isEqualTo(LocalDate.of(2024, 4, 1));
+        assertThat(payslip.getPayrollTotalPay()).isEqualTo(950.0);
+    }
+
+    @Test
+    void rebuildSnapshotDoesNotOverwriteNewerEventsAndDropsUntouchedRows() {
+        Timestamp earlier = Timestamp.valueOf("2024-04-01 00:00:00");
+        Timestamp event = Timestamp.valueOf("2024-05-01 10:00:05");
+        projectionRepository.upsertEmployees(List.of(employee(1L, "Old name", 7L), employee(2L, "Deleted", 7L)), earlier);
+        projectionRepository.upsertEmployees(List.of(employee(1L, "Renamed", 8L)), event);
+
+        projectionRepository.upsertEmployees(List.of(employee(1L, "Snapshot name", 7L), employee(3L, "New", 7L)),
+                REBUILD_START);
+        projectionRepository.deleteSyncedBefore(REBUILD_START);
+
+        Payroll payroll = payrollRepository.saveAndFlush(payroll(1L, LocalDate.of(2024, 4, 30)));
+        Payslip payslip = projectionRepository.findPayslip(payroll.getPayrollId()).orElseThrow();
+        assertThat(payslip.getEmployeeName()).isEqualTo("Renamed");
+        assertThat(payslip.getPositionId()).isEqualTo(8L);
+        assertThat(projectionRepository.count("payroll_employees")).isEqualTo(2);
+    }
+
+    @Test
+    void deleteReceivedDuringRebuildIsNotUndoneBySnapshot() {
+        Timestamp earlier = Timestamp.valueOf("2024-04-01 00:00:00");
+        projectionRepository.upsertEmployees(List.of(employee(1L, "Leaving", 7L), employee(2L, "Staying", 7L)), earlier);
+        projectionRepository.deleteEmployee(9L, earlier);
+
+        // The snapshot was read before employee 1 was deleted and is written after the delete.
+        projectionRepository.deleteEmployee(1L, Timestamp.valueOf("2024-05-01 10:00:02"));
+        projectionRepository.upsertEmployees(List.of(employee(1L, "Leaving", 7L), employee(2L, "Staying", 7L)),
+                REBUILD_START);
+        projectionRepository.deleteSyncedBefore(REBUILD_START);
+
+        assertThat(projectionRepository.count("payroll_employees")).isEqualTo(1);
+        Payroll payroll = payrollRepository.saveAndFlush(payroll(2L, LocalDate.of(2024, 4, 30)));
+        assertThat(projectionRepository.findPayslip(payroll.getPayrollId()).orElseThrow().getEmployeeName())
+                .isEqualTo("Staying");
+        assertThat(projectionRepository.count("payroll_projection_deletes")).isEqualTo(1);
+    }
+
+    @Test
+    void streamsAssignmentsGroupedByDepartment() {
+        List<Employee> employees = List.of(employee(1L, "A", 7L), employee(2L, "B", 8L), employee(3L, "C", 7L));
+        employees.get(0).setDepartmentId(20L);
+        employees.get(1).setDepartmentId(10L);
+        employees.get(2).setDepartmentId(20L);
+        projectionRepository.upsertEmployees(employees, REBUILD_START);
+        List<String> assignments = new ArrayList<>();
+
+        projectionRepository.forEachAssignment(null, (department, position) -> assignments.add(department + ":" + position));
+        projectionRepository.forEachAssignment(10L, (department, position) -> assignments.add(department + ":" + position));
+
+        assertThat(assignments).containsExactly("10:8", "20:7", "20:7", "10:8");
+    }
+
+    private static Employee employee(long employeeId, String name, long positionId) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setEmployeeName(name);
+        employee.setPositionId(positionId);
+        return employee;
+    }
+
+    private static Position position(long positionId, String title) {
+        Position position = new Position();
+        position.setPositionId(positionId);
+        position.setPositionTitle(title);
+        position.setPositionBaseSalary(1000.0);
+        position.setPositionExperienceBonus(0.0);
+        return position;
+    }
+}
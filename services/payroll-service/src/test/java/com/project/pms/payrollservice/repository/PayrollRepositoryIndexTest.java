@@ -0,0 +1,48 @@
+package com.project.pms.payrollservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:payroll;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class PayrollRepositoryIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findByEmployeeIdUsesEmployeePayDateIndex() {
+        assertThat(explain("SELECT * FROM payrolls WHERE employee_id = 42"))
+                .containsIgnoringCase("idx_payrolls_employee_pay_date");
+    }
+
+    @Test
+    void payDateRangeForEmployeeUsesEmployeePayDateIndex() {
+        assertThat(explain("SELECT * FROM payrolls WHERE employee_id = 42"
+                + " AND payroll_pay_date BETWEEN DATE '2024-01-01' AND DATE '2024-12-31'"))
+                .containsIgnoringCase("idx_payrolls_employee_pay_date");
+    }
+
+    @Test
+    void payDateRangeAcrossEmployeesUsesPayDateIndex() {
+        assertThat(explain("SELECT * FROM payrolls"
+                + " WHERE payroll_pay_date BETWEEN DATE '2024-01-01' AND DATE '2024-01-31'"))
+                .containsIgnoringCase("idx_payrolls_pay_date");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
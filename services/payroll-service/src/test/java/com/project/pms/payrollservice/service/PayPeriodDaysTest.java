@@ -0,0 +1,97 @@
+package com.project.pms.payrollservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.pms.payrollservice.dto.AttendanceDays;
+import com.project.pms.payrollservice.dto.LeaveDays;
+import com.project.pms.payrollservice.dto.Position;
+import com.project.pms.payrollservice.entity.Payroll;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PayPeriodDaysTest {
+
+    // May 2024 starts on a Wednesday and has 23 weekdays.
+    private static final LocalDate MONTH_END = LocalDate.of(2024, 5, 31);
+    private static final long WEEKDAYS = days(1, 2, 3, 6, 7, 8, 9, 10, 13, 14, 15, 16, 17, 20, 21, 22, 23, 24,
+            27, 28, 29, 30, 31);
+
+    @Test
+    void unpaidLeaveAndAbsencesReducePayableWorkingDays() {
+        PayPeriodDays days = PayPeriodDays.of(MONTH_END,
+                List.of(attendance(2L, WEEKDAYS), attendance(1L, WEEKDAYS)),
+                List.of(leave(2L, 0L, days(13, 14, 18)), leave(3L, WEEKDAYS, 0L)),
+                true);
+
+        assertThat(days.getWorkingDays()).isEqualTo(23);
+        assertThat(days.payableDays(1L)).isEqualTo(23);
+        // The Saturday of unpaid leave is not a working day.
+        assertThat(days.payableDays(2L)).isEqualTo(21);
+        assertThat(days.payableDays(3L)).isEqualTo(23);
+        assertThat(days.payableDays(4L)).isZero();
+    }
+
+    @Test
+    void absencesCountOnlyUpToThePayDate() {
+        PayPeriodDays days = PayPeriodDays.of(LocalDate.of(2024, 5, 15),
+                List.of(attendance(1L, days(1, 2, 3, 6, 7, 8, 9, 10))), List.of(), true);
+
+        assertThat(days.payableDays(1L)).isEqualTo(20);
+    }
+
+    @Test
+    void missingAttendanceIsPaidWhenAbsencesAreNotCounted() {
+        PayPeriodDays days = PayPeriodDays.of(MONTH_END, List.of(), List.of(leave(1L, 0L, days(1))), false);
+
+        assertThat(days.payableDays(1L)).isEqualTo(22);
+        assertThat(days.payableDays(2L)).isEqualTo(23);
+    }
+
+    @Test
+    void prorationTaxesTheProratedGrossAndDeductsTheUnpaidPart() {
+        PayrollService payrollService = new PayrollService();
+        ReflectionTestUtils.setField(payrollService, "payrollCalculator", PayrollCalculator.fromSlabs("4000:10"));
+        Position position = new Position();
+        position.setPositionBaseSalary(5000.0);
+        position.setPositionExperienceBonus(500.0);
+        PayPeriodDays days = PayPeriodDays.of(MONTH_END, List.of(attendance(1L, WEEKDAYS)),
+                List.of(leave(1L, 0L, days(13, 14))), true);
+
+        Payroll prorated = payrollService.buildPayroll(1L, position, 0.0, java.sql.Date.valueOf(MONTH_END), days);
+        Payroll full = payrollService.buildPayroll(1L, position, 0.0, java.sql.Date.valueOf(MONTH_END));
+
+        // 5500.00 * 21 / 23 = 5021.74 gross, taxed 502.17, and 478.26 unpaid
+        assertThat(prorated.getPayrollBaseSalary()).isEqualTo(5000.0);
+        assertThat(prorated.getPayrollDeductions()).isEqualTo(980.43);
+        assertThat(prorated.getPayrollTotalPay()).isEqualTo(4519.57);
+        assertThat(prorated.getPayrollWorkingDays()).isEqualTo(23);
+        assertThat(prorated.getPayrollPayableDays()).isEqualTo(21);
+        assertThat(full.getPayrollTotalPay()).isEqualTo(4950.0);
+        assertThat(full.getPayrollWorkingDays()).isNull();
+    }
+
+    private static long days(int... days) {
+        long bits = 0L;
+        for (int day : days) {
+            bits |= 1L << (day - 1);
+        }
+        return bits;
+    }
+
+    private static AttendanceDays attendance(Long employeeId, long days) {
+        AttendanceDays attendance = new AttendanceDays();
+        attendance.setEmployeeId(employeeId);
+        attendance.setDays(days);
+        return attendance;
+    }
+
+    private static LeaveDays leave(Long employeeId, long paidDays, long unpaidDays) {
+        LeaveDays leave = new LeaveDays();
+        leave.setEmployeeId(employeeId);
+        leave.setPaidDays(paidDays);
+        leave.setUnpaidDays(unpaidDays);
+        return leave;
+    }
+}
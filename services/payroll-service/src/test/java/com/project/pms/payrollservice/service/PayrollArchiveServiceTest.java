@@ -0,0 +1,109 @@
+package com.project.pms.payrollservice.service;
+
+import static com.project.pms.payrollservice.PayrollFixtures.payroll;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import com.project.pms.payrollservice.dto.ArchiveSegment;
+import com.project.pms.payrollservice.entity.Payroll;
+import com.project.pms.payrollservice.repository.IdGeneratorRepository;
+import com.project.pms.payrollservice.repository.PayrollArchiveRepository;
+import com.project.pms.payrollservice.repository.PayrollBatchRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:payroll_archive;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PayrollArchiveService.class, PayrollArchiveRepository.class, PayrollBatchRepository.class,
+        IdGeneratorRepository.class})
+class PayrollArchiveServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private PayrollArchiveService payrollArchiveService;
+
+    @Autowired
+    private PayrollBatchRepository payrollBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(payrollArchiveService, "directory", directory);
+    }
+
+    @Test
+    void archivedPeriodLeavesTheTableAndStaysReadable() {
+        Payroll prorated = payroll(1L, LocalDate.of(2022, 3, 31));
+        prorated.setPayrollWorkingDays(23);
+        prorated.setPayrollPayableDays(21);
+        payrollBatchRepository.insertAll(List.of(prorated, payroll(2L, LocalDate.of(2022, 3, 31)),
+                payroll(1L, LocalDate.of(2022, 4, 30))));
+
+        ArchiveSegment segment = payrollArchiveService.archivePeriod(YearMonth.of(2022, 3));
+
+        assertThat(segment.getRowCount()).isEqualTo(2);
+        assertThat(Files.exists(directory.resolve("payrolls-2022-03.csv.gz"))).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT payroll_period FROM payrolls", java.sql.Date.class))
+                .containsExactly(java.sql.Date.valueOf("2022-04-01"));
+        assertThat(payrollArchiveService.isArchived(LocalDate.of(2022, 3, 1))).isTrue();
+        assertThat(payrollArchiveService.isArchived(LocalDate.of(2022, 4, 1))).isFalse();
+
+        assertThat(payrollArchiveService.findArchived(1L, LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)))
+                .extracting(Payroll::getPayrollId, Payroll::getPayrollPeriod, Payroll::getPayrollTotalPay,
+                        Payroll::getPayrollWorkingDays, Payroll::getPayrollPayableDays)
+                .containsExactly(tuple(prorated.getPayrollId(), LocalDate.of(2022, 3, 1), 950.0, 23, 21));
+        assertThat(payrollArchiveService.findArchived(2L, LocalDate.of(2022, 4, 1), LocalDate.of(2022, 12, 31)))
+                .isEmpty();
+
+        assertThatThrownBy(() -> payrollArchiveService.archivePeriod(YearMonth.of(2022, 3)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void insertIntoAnArchivedPeriodIsRejected() {
+        payrollBatchRepository.insertAll(List.of(payroll(1L, LocalDate.of(2022, 3, 31))));
+        payrollArchiveService.archivePeriod(YearMonth.of(2022, 3));
+
+        assertThatThrownBy(() -> payrollArchiveService.insertUnarchived(LocalDate.of(2022, 3, 1),
+                () -> fail("inserted into an archived period")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(payrollArchiveService.insertUnarchived(LocalDate.of(2022, 4, 1), () -> "inserted"))
+                .isEqualTo("inserted");
+    }
+
+    @Test
+    void coldPeriodsAreArchivedOldestFirstAndRecentOnesKept() {
+        payrollBatchRepository.insertAll(List.of(payroll(1L, LocalDate.of(2020, 1, 31)),
+                payroll(1L, LocalDate.of(2021, 6, 30)), payroll(1L, LocalDate.now())));
+
+        assertThat(payrollArchiveService.archiveColdPeriods())
+                .extracting(ArchiveSegment::getPeriod)
+                .containsExactly(YearMonth.of(2020, 1), YearMonth.of(2021, 6));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payrolls", Long.class)).isEqualTo(1);
+    }
+}
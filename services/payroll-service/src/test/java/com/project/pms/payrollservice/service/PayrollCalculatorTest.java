@@ -0,0 +1,74 @@
+package com.project.pms.payrollservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import org.junit.jupiter.api.Test;
+
+class PayrollCalculatorTest {
+
+    private final PayrollCalculator calculator = PayrollCalculator.fromSlabs(PayrollCalculator.DEFAULT_SLABS);
+
+    @Test
+    void matchesPreviousDoubleLogicForWholeAmounts() {
+        for (long gross = 0; gross <= 3_000_000; gross += 7) {
+            assertEquals(Math.round(previousTax((double) gross) * 100), calculator.taxMinor(gross * 100), "gross " + gross);
+        }
+    }
+
+    @Test
+    void matchesExactSlabRatesForAmountsWithCents() {
+        long[] thresholds = {400_000, 800_000, 1_200_000, 1_600_000, 2_000_000, 2_400_000};
+        for (long threshold : thresholds) {
+            for (long grossMinor = threshold * 100 - 1_000; grossMinor <= threshold * 100 + 1_000; grossMinor++) {
+                assertEquals(exactTaxMinor(grossMinor), calculator.taxMinor(grossMinor), "gross cents " + grossMinor);
+            }
+        }
+    }
+
+    @Test
+    void thresholdItselfStaysInLowerSlab() {
+        assertEquals(0, calculator.taxMinor(40_000_000));
+        assertEquals(2_000_000, calculator.taxMinor(40_000_001));
+        assertEquals(60_000_000, calculator.taxMinor(240_000_000));
+        assertEquals(72_000_030, calculator.taxMinor(240_000_100));
+    }
+
+    @Test
+    void supportsFractionalRates() {
+        PayrollCalculator custom = PayrollCalculator.fromSlabs("1000:12.5");
+        assertEquals(0, custom.taxMinor(100_000));
+        assertEquals(25_001, custom.taxMinor(200_010));
+    }
+
+    @Test
+    void rejectsUnsortedSlabs() {
+        assertThrows(IllegalArgumentException.class, () -> PayrollCalculator.fromSlabs("800000:10,400000:5"));
+        assertThrows(IllegalArgumentException.class, () -> PayrollCalculator.fromSlabs("400000"));
+    }
+
+    private static Double previousTax(Double grossPay) {
+        if (grossPay > 2400000) return grossPay * 0.30;
+        if (grossPay > 2000000) return grossPay * 0.25;
+        if (grossPay > 1600000) return grossPay * 0.20;
+        if (grossPay > 1200000) return grossPay * 0.15;
+        if (grossPay > 800000) return grossPay * 0.10;
+        if (grossPay > 400000) return grossPay * 0.05;
+        return 0.0;
+    }
+
+    private static long exactTaxMinor(long grossMinor) {
+        BigDecimal gross = BigDecimal.valueOf(grossMinor, 2);
+        String rate;
+        if (gross.compareTo(BigDecimal.valueOf(2400000)) > 0) rate = "0.30";
+        else if (gross.compareTo(BigDecimal.valueOf(2000000)) > 0) rate = "0.25";
+        else if (gross.compareTo(BigDecimal.valueOf(1600000)) > 0) rate = "0.20";
+        else if (gross.compareTo(BigDecimal.valueOf(1200000)) > 0) rate = "0.15";
+        else if (gross.compareTo(BigDecimal.valueOf(800000)) > 0) rate = "0.10";
+        else if (gross.compareTo(BigDecimal.valueOf(400000)) > 0) rate = "0.05";
+        else return 0;
+        return gross.multiply(new BigDecimal(rate)).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.pms.payrollservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.project.pms.payrollservice.repository.PayrollExportRepository;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PayrollExportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+
+    private final PayrollExportRepository payrollExportRepository = mock(PayrollExportRepository.class);
+    private final PayrollExportService payrollExportService = new PayrollExportService(1);
+
+    @Test
+    void slotIsHeldOnlyWhileWritingAndReleasedOnFailure() throws Exception {
+        ReflectionTestUtils.setField(payrollExportService, "payrollExportRepository", payrollExportRepository);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(payrollExportRepository.writeCsv(any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    writing.countDown();
+                    finish.await();
+                    return 0L;
+                })
+                .thenThrow(new IOException("client went away"));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> first = executor.submit(() -> payrollExportService.writeCsv(FROM, TO, null, false,
+                    new ByteArrayOutputStream()));
+            writing.await();
+
+            assertThat(payrollExportService.hasCapacity()).isFalse();
+            assertThat(payrollExportService.writeCsv(FROM, TO, null, false, new ByteArrayOutputStream())).isFalse();
+
+            finish.countDown();
+            assertThat(first.get()).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(payrollExportService.hasCapacity()).isTrue();
+
+        assertThatThrownBy(() -> payrollExportService.writeCsv(FROM, TO, null, true, new ByteArrayOutputStream()))
+                .isInstanceOf(IOException.class);
+        assertThat(payrollExportService.hasCapacity()).isTrue();
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.pms.payrollservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.pms.payrollservice.dto.PayrollJob;
+import com.project.pms.payrollservice.dto.PayrollJobRequest;
+import com.project.pms.payrollservice.entity.Payroll;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+class PayrollJobServiceTest {
+
+    private final PayrollService payrollService = mock(PayrollService.class);
+    private final PayrollJobService jobService = new PayrollJobService();
+
+    @BeforeEach
+    void setUp() {
+        Payroll payroll = new Payroll();
+        payroll.setPayrollId(7L);
+        when(payrollService.generatePayroll(any(), anyDouble(), any())).thenReturn(Mono.just(payroll));
+        ReflectionTestUtils.setField(jobService, "payrollService", payrollService);
+        ReflectionTestUtils.setField(jobService, "payrollJobExecutor", directExecutor());
+        ReflectionTestUtils.setField(jobService, "timeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(jobService, "retention", Duration.ofHours(1));
+        ReflectionTestUtils.setField(jobService, "maxRetained", 100);
+    }
+
+    @Test
+    void resubmittingTheSameEmployeeAndPeriodReturnsTheFirstJob() {
+        PayrollJobService.Submission first = jobService.submit(1L, request(LocalDate.of(2024, 5, 1)), null);
+        PayrollJobService.Submission retry = jobService.submit(1L, request(LocalDate.of(2024, 5, 31)), "client-key");
+
+        assertThat(first.created()).isTrue();
+        assertThat(first.job().getStatus()).isEqualTo(PayrollJob.JobStatus.COMPLETED);
+        assertThat(first.job().getPayrollId()).isEqualTo(7L);
+        assertThat(retry.created()).isFalse();
+        assertThat(retry.job()).isSameAs(first.job());
+        verify(payrollService, times(1)).generatePayroll(eq(1L), anyDouble(), any());
+    }
+
+    @Test
+    void reusingAKeyForAnotherPeriodIsRejected() {
+        jobService.submit(1L, request(LocalDate.of(2024, 5, 1)), "client-key");
+
+        assertThatThrownBy(() -> jobService.submit(1L, request(LocalDate.of(2024, 6, 1)), "client-key"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void failedJobCanBeResubmitted() {
+        when(payrollService.generatePayroll(any(), anyDouble(), any()))
+                .thenReturn(Mono.error(new RuntimeException("Employee not found")));
+        PayrollJobService.Submission failed = jobService.submit(1L, request(LocalDate.of(2024, 5, 1)), null);
+
+        PayrollJobService.Submission retry = jobService.submit(1L, request(LocalDate.of(2024, 5, 1)), null);
+
+        assertThat(failed.job().getStatus()).isEqualTo(PayrollJob.JobStatus.FAILED);
+        assertThat(retry.created()).isTrue();
+        assertThat(retry.job().getJobId()).isNotEqualTo(failed.job().getJobId());
+    }
+
+    @Test
+    void oldestFinishedJobsAreDroppedBeyondTheCap() {
+        ReflectionTestUtils.setField(jobService, "maxRetained", 2);
+        PayrollJob first = jobService.submit(1L, request(LocalDate.of(2024, 5, 1)), null).job();
+        PayrollJob second = jobService.submit(2L, request(LocalDate.of(2024, 5, 1)), null).job();
+
+        PayrollJob third = jobService.submit(3L, request(LocalDate.of(2024, 5, 1)), null).job();
+
+        assertThat(jobService.getJob(first.getJobId())).isEmpty();
+        assertThat(jobService.getJob(second.getJobId())).contains(second);
+        assertThat(jobService.getJob(third.getJobId())).contains(third);
+        assertThat(jobService.submit(1L, request(LocalDate.of(2024, 5, 1)), null).created()).isTrue();
+    }
+
+    private static PayrollJobRequest request(LocalDate payDate) {
+        PayrollJobRequest request = new PayrollJobRequest();
+        request.setPayDate(payDate);
+        return request;
+    }
+
+    private static ExecutorService directExecutor() {
+        ExecutorService executor = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any());
+        return executor;
+    }
+}
@@ -0,0 +1,157 @@
+package com.project.pms.payrollservice.service;
+
+import static com.project.pms.payrollservice.PayrollFixtures.payroll;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.pms.payrollservice.client.DepartmentClient;
+import com.project.pms.payrollservice.client.EmployeeClient;
+import com.project.pms.payrollservice.dto.Employee;
+import com.project.pms.payrollservice.dto.PayrollRun;
+import com.project.pms.payrollservice.dto.PayrollRunRequest;
+import com.project.pms.payrollservice.dto.Position;
+import com.project.pms.payrollservice.repository.IdGeneratorRepository;
+import com.project.pms.payrollservice.repository.PayrollArchiveRepository;
+import com.project.pms.payrollservice.repository.PayrollBatchRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:payroll_run;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PayrollRunService.class, PayrollBatchRepository.class, IdGeneratorRepository.class,
+        PayrollArchiveService.class, PayrollArchiveRepository.class})
+class PayrollRunServiceTest {
+
+    private static final LocalDate PAY_DATE = LocalDate.of(2024, 5, 31);
+
+    @Autowired
+    private PayrollRunService payrollRunService;
+
+    @SpyBean
+    private PayrollBatchRepository payrollBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PayrollService payrollService;
+
+    @MockBean
+    private EmployeeClient employeeClient;
+
+    @MockBean
+    private DepartmentClient departmentClient;
+
+    @MockBean
+    private PositionCache positionCache;
+
+    @MockBean(name = "payrollRunExecutor")
+    private ExecutorService payrollRunExecutor;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(payrollRunExecutor).execute(any());
+        ReflectionTestUtils.setField(payrollRunService, "batchSize", 2);
+        Position position = new Position();
+        position.setPositionId(1L);
+        when(departmentClient.getAllPositions()).thenReturn(Mono.just(List.of(position)));
+        when(payrollService.getPayPeriodDays(any(), any())).thenReturn(Mono.just(PayPeriodDays.fullPay()));
+        when(payrollService.buildPayroll(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> payroll(invocation.<Long>getArgument(0), PAY_DATE));
+    }
+
+    @Test
+    void employeesAreInsertedInBatchesAndFailuresCounted() {
+        // Employee 2 has no known position and the batch of employees 3 and 4 fails to insert.
+        when(employeeClient.getEmployees(null)).thenReturn(Mono.just(List.of(
+                employee(1L, 1L), employee(2L, 9L), employee(3L, 1L), employee(4L, 1L), employee(5L, 1L))));
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .when(payrollBatchRepository).insertAll(argThat(batch -> batch.stream()
+                        .anyMatch(payroll -> payroll.getEmployeeId() == 3L)));
+
+        PayrollRun run = payrollRunService.startRun(request());
+
+        assertThat(run.getStatus()).isEqualTo(PayrollRun.RunStatus.COMPLETED);
+        assertThat(run.getTotalEmployees()).isEqualTo(5);
+        assertThat(run.getProcessed()).isEqualTo(2);
+        assertThat(run.getFailed()).isEqualTo(3);
+        assertThat(run.getProgressPercent()).isEqualTo(100.0);
+        verify(payrollBatchRepository, times(3)).insertAll(anyList());
+        assertThat(jdbcTemplate.queryForList("SELECT employee_id FROM payrolls ORDER BY employee_id", Long.class))
+                .containsExactly(1L, 5L);
+    }
+
+    @Test
+    void employeesAlreadyPaidForThePeriodAreSkipped() {
+        payrollBatchRepository.insertAll(List.of(payroll(2L, PAY_DATE.withDayOfMonth(1))));
+        when(employeeClient.getEmployees(null)).thenReturn(Mono.just(List.of(employee(1L, 1L), employee(2L, 1L))));
+
+        PayrollRun run = payrollRunService.startRun(request());
+
+        assertThat(run.getProcessed()).isEqualTo(1);
+        assertThat(run.getSkipped()).isEqualTo(1);
+        assertThat(run.getFailed()).isZero();
+        assertThat(run.getProgressPercent()).isEqualTo(100.0);
+        assertThat(jdbcTemplate.queryForList("SELECT payroll_pay_date FROM payrolls ORDER BY employee_id",
+                java.sql.Date.class))
+                .containsExactly(java.sql.Date.valueOf(PAY_DATE), java.sql.Date.valueOf("2024-05-01"));
+    }
+
+    @Test
+    void oldestFinishedRunsAreDroppedBeyondTheCap() {
+        ReflectionTestUtils.setField(payrollRunService, "maxRetained", 2);
+        when(employeeClient.getEmployees(null)).thenReturn(Mono.just(List.of()));
+        PayrollRun first = payrollRunService.startRun(request());
+        PayrollRun second = payrollRunService.startRun(request());
+
+        PayrollRun third = payrollRunService.startRun(request());
+
+        assertThat(payrollRunService.getRun(first.getRunId())).isEmpty();
+        assertThat(payrollRunService.getRuns()).containsExactlyInAnyOrder(second, third);
+        verify(payrollService, times(3)).getPayPeriodDays(eq(PAY_DATE), any());
+    }
+
+    private static PayrollRunRequest request() {
+        PayrollRunRequest request = new PayrollRunRequest();
+        request.setPayDate(PAY_DATE);
+        return request;
+    }
+
+    private static Employee employee(Long employeeId, Long positionId) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setPositionId(positionId);
+        return employee;
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.pms.payrollservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.project.pms.payrollservice.dto.DepartmentImpact;
+import com.project.pms.payrollservice.dto.PayrollSimulation;
+import com.project.pms.payrollservice.dto.PayrollTotals;
+import com.project.pms.payrollservice.dto.Position;
+import com.project.pms.payrollservice.dto.SimulationRequest;
+import com.project.pms.payrollservice.repository.PayrollProjectionRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PayrollSimulationServiceTest {
+
+    // Department 1 is large enough to be split by employee range; department 2 has an unknown position.
+    private static final int ENGINEERS = 10_000;
+
+    private final PayrollProjectionRepository projectionRepository = mock(PayrollProjectionRepository.class);
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final PayrollSimulationService simulationService = new PayrollSimulationService();
+
+    @BeforeEach
+    void setUp() {
+        when(projectionRepository.findPositions()).thenReturn(List.of(
+                position(10L, 5000.0, 500.0), position(20L, 3000.0, 0.0)));
+        when(projectionRepository.findDepartmentNames()).thenReturn(Map.of(1L, "Engineering", 2L, "Finance"));
+        doAnswer(invocation -> {
+            PayrollProjectionRepository.AssignmentHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < ENGINEERS; i++) {
+                handler.accept(1L, 10L);
+            }
+            handler.accept(2L, 20L);
+            handler.accept(2L, 20L);
+            handler.accept(2L, 99L);
+            return null;
+        }).when(projectionRepository).forEachAssignment(isNull(), any());
+        ReflectionTestUtils.setField(simulationService, "projectionRepository", projectionRepository);
+        ReflectionTestUtils.setField(simulationService, "payrollCalculator", PayrollCalculator.fromSlabs("4000:10"));
+        ReflectionTestUtils.setField(simulationService, "payrollSimulationPool", pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void unchangedRequestHasNoDelta() {
+        PayrollSimulation simulation = simulationService.simulate(new SimulationRequest());
+
+        assertThat(simulation.getEmployees()).isEqualTo(ENGINEERS + 2);
+        assertThat(simulation.getUnpriced()).isEqualTo(1);
+        assertThat(simulation.getBaseline()).isEqualTo(new PayrollTotals(55_006_000.0, 5_500_000.0, 49_506_000.0));
+        assertThat(simulation.getSimulated()).isEqualTo(simulation.getBaseline());
+        assertThat(simulation.getDelta()).isEqualTo(new PayrollTotals(0.0, 0.0, 0.0));
+    }
+
+    @Test
+    void pricesPositionAndTaxOverridesPerDepartment() {
+        SimulationRequest request = new SimulationRequest();
+        Position raise = new Position();
+        raise.setPositionId(20L);
+        raise.setPositionBaseSalary(4500.0);
+        request.setPositions(List.of(raise));
+        request.setTaxSlabs("4000:10,5000:20");
+        request.setDeductions(100.0);
+
+        PayrollSimulation simulation = simulationService.simulate(request);
+
+        DepartmentImpact engineering = simulation.getDepartments().get(0);
+        assertThat(engineering.getDepartmentName()).isEqualTo("Engineering");
+        assertThat(engineering.getEmployees()).isEqualTo(ENGINEERS);
+        assertThat(engineering.getDelta()).isEqualTo(new PayrollTotals(0.0, 5_500_000.0, -5_500_000.0));
+
+        DepartmentImpact finance = simulation.getDepartments().get(1);
+        assertThat(finance.getEmployees()).isEqualTo(2);
+        assertThat(finance.getBaseline()).isEqualTo(new PayrollTotals(6000.0, 0.0, 5800.0));
+        assertThat(finance.getSimulated()).isEqualTo(new PayrollTotals(9000.0, 900.0, 7900.0));
+        assertThat(finance.getDelta()).isEqualTo(new PayrollTotals(3000.0, 900.0, 2100.0));
+
+        assertThat(simulation.getDelta()).isEqualTo(new PayrollTotals(3000.0, 5_500_900.0, -5_497_900.0));
+    }
+
+    private static Position position(long positionId, double baseSalary, double experienceBonus) {
+        Position position = new Position();
+        position.setPositionId(positionId);
+        position.setPositionBaseSalary(baseSalary);
+        position.setPositionExperienceBonus(experienceBonus);
+        return position;
+    }
+}
@@ -14,7 +14,8 @@ start_service() {
     
     echo "Starting $service_name on port $port..."
     cd "$service_dir"
-    nohup java -jar target/*.jar > logs/$service_name.log 2>&1 &
+    local jar=$(ls target/*-exec.jar 2> /dev/null || ls target/*.jar)
+    nohup java -jar $jar > logs/$service_name.log 2>&1 &
     echo $! > logs/$service_name.pid
     sleep 5
     echo "$service_name started with PID $(cat logs/$service_name.pid)"